@@ -0,0 +1,49 @@
+package com.vibeloop.game.benchmark;
+
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.CharacterService;
+import com.vibeloop.game.service.ContentRepository;
+import com.vibeloop.game.service.GameConfigService;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks loading the JSON content files one by one in the service constructors, and
+ * loading all the content from the compiled content pack through the content repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentLoadingBenchmark {
+
+    @Benchmark
+    public CardService loadCards() {
+        return new CardService();
+    }
+
+    @Benchmark
+    public ObstacleService loadObstacles() {
+        return new ObstacleService(new GameConfigService());
+    }
+
+    @Benchmark
+    public CharacterService loadCharacters() {
+        return new CharacterService();
+    }
+
+    @Benchmark
+    public ContentRepository loadContent() {
+        return ContentRepository.load();
+    }
+}
@@ -0,0 +1,68 @@
+package com.vibeloop.game.benchmark;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Deck;
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.service.CardService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the deck operations used every round and at every time loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    @Param({"10", "20", "40"})
+    private int deckSize;
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        CardService cardService = new CardService();
+        deck = new Deck(new GameRandom(42));
+        for (int i = 0; i < deckSize; i++) {
+            deck.addCard(cardService.getCard(i % cardService.getCardCount()));
+        }
+        deck.resetDeckForTimeLoop();
+    }
+
+    /**
+     * Gathers and reshuffles the whole deck, as every player does at a time loop.
+     */
+    @Benchmark
+    public Deck resetDeckForTimeLoop() {
+        deck.resetDeckForTimeLoop();
+        return deck;
+    }
+
+    /**
+     * Resets the deck, then draws and plays every card in it.
+     */
+    @Benchmark
+    public int drawAndPlayDeck() {
+        deck.resetDeckForTimeLoop();
+        Card card;
+        while ((card = deck.drawCard()) != null) {
+            deck.playCard(card);
+        }
+        return deck.getDiscardPile().size();
+    }
+}
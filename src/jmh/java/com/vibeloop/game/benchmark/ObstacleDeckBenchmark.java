@@ -0,0 +1,49 @@
+package com.vibeloop.game.benchmark;
+
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.model.ObstacleDeck;
+import com.vibeloop.game.service.ContentRepository;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building a difficulty-filtered obstacle deck, as done at the start of a game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObstacleDeckBenchmark {
+    // Maximum obstacle difficulty; the shipped obstacles range from 3 to 6
+    @Param({"3", "4", "6"})
+    private int difficulty;
+
+    private ObstacleService obstacleService;
+    private GameRandom random;
+
+    @Setup
+    public void setUp() {
+        obstacleService = ContentRepository.load().getObstacleService();
+        random = new GameRandom(42);
+    }
+
+    @Benchmark
+    public ObstacleDeck createObstacleDeck() {
+        return obstacleService.createObstacleDeck(difficulty, random);
+    }
+}
@@ -0,0 +1,81 @@
+package com.vibeloop.game.benchmark;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.ObstacleResolver;
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.CharacterService;
+import com.vibeloop.game.service.ContentRepository;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks resolving a round against a regular obstacle and against the finale.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResolutionBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int playerCount;
+
+    private ObstacleResolver resolver;
+    private Card[] cards;
+    private Character[] characters;
+    private ObstacleCard regularObstacle;
+    private ObstacleCard finaleObstacle;
+
+    @Setup
+    public void setUp() {
+        ContentRepository content = ContentRepository.load();
+        CharacterService characterService = content.getCharacterService();
+        CardService cardService = content.getCardService();
+        ObstacleService obstacleService = content.getObstacleService();
+        resolver = new ObstacleResolver(new ContributionTable(characterService, cardService, obstacleService));
+
+        // Spread the seats over the characters and cards so the round mixes matches and misses
+        cards = new Card[playerCount];
+        characters = new Character[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            cards[i] = cardService.getCard(i * 7 % cardService.getCardCount());
+            characters[i] = characterService.getCharacter(i % characterService.getCharacterCount());
+        }
+
+        for (int i = 0; i < obstacleService.getObstacleCount(); i++) {
+            ObstacleCard obstacle = obstacleService.getObstacleCard(i);
+            if (obstacle.isFinale()) {
+                finaleObstacle = obstacle;
+            } else if (regularObstacle == null) {
+                regularObstacle = obstacle;
+            }
+        }
+    }
+
+    @Benchmark
+    public int resolveRegular() {
+        return resolver.resolve(regularObstacle, cards, characters, playerCount);
+    }
+
+    @Benchmark
+    public int resolveFinale() {
+        return resolver.resolve(finaleObstacle, cards, characters, playerCount);
+    }
+}
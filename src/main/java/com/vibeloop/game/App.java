@@ -1,11 +1,19 @@
 package com.vibeloop.game;
 
-import com.vibeloop.game.service.CardService;
-import com.vibeloop.game.service.CharacterService;
-import com.vibeloop.game.service.ObstacleService;
+import com.vibeloop.game.ai.MctsBot;
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.service.ContentRepository;
 import com.vibeloop.game.ui.CharacterSelectionScreen;
+import com.vibeloop.game.ui.ImageCache;
+import com.vibeloop.game.ui.SplashScreen;
+import com.vibeloop.game.ui.StartupLoader;
+import com.vibeloop.game.ui.Theme;
+import com.vibeloop.game.ui.ThumbnailStore;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -20,22 +28,62 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 
 public class App extends Application {
+    // Memory budget for decoded card, character and obstacle art
+    private static final long IMAGE_CACHE_BYTES = 64L * 1024 * 1024;
 
-    private CharacterService characterService;
-    private CardService cardService;
-    private ObstacleService obstacleService;
+    private ContentRepository content;
+    private ContributionTable contributionTable;
+    private ImageCache imageCache;
+    private ExecutorService botExecutor;
+    private MctsBot bot;
 
     @Override
     public void start(Stage primaryStage) {
-        // Initialize services
-        characterService = new CharacterService();
-        cardService = new CardService();
-        obstacleService = new ObstacleService();
+        imageCache = new ImageCache(IMAGE_CACHE_BYTES, new ThumbnailStore(ThumbnailStore.getDefaultDirectory()));
         
+        // Load the content and warm the image cache in the background behind a splash screen
+        ExecutorService loadExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "content-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        StartupLoader loader = new StartupLoader(imageCache, loadExecutor);
+        loader.setOnSucceeded(e -> {
+            loadExecutor.shutdown();
+            // Every screen shares the content loaded once
+            content = loader.getValue();
+            contributionTable = new ContributionTable(content.getCharacterService(), content.getCardService(),
+                                                      content.getObstacleService());
+            bot = createBot();
+            showWelcome(primaryStage);
+        });
+        loader.setOnFailed(e -> {
+            loadExecutor.shutdown();
+            System.err.println("Error loading game content: " + loader.getException());
+            loader.getException().printStackTrace();
+            Platform.exit();
+        });
+        
+        Scene splashScene = new Scene(new SplashScreen(loader), 1024, 768);
+        Theme.apply(splashScene);
+        primaryStage.setTitle("VibeLoop Game");
+        primaryStage.setScene(splashScene);
+        primaryStage.setFullScreen(true);
+        primaryStage.show();
+        
+        Thread loaderThread = new Thread(loader, "startup-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+    
+    /**
+     * Shows the welcome screen once the content is loaded.
+     */
+    private void showWelcome(Stage primaryStage) {
         // Load background image
         Image backgroundImage = null;
         try {
-            backgroundImage = new Image(getClass().getResourceAsStream("/station.jpg"));
+            backgroundImage = imageCache.require("/station.jpg", 0, 0);
         } catch (Exception e) {
             System.err.println("Error loading background image: " + e.getMessage());
         }
@@ -48,14 +96,14 @@ public class App extends Application {
         
         // Create UI components for welcome screen
         Label welcomeLabel = new Label("Welcome to VibeLoop Game!");
-        welcomeLabel.setStyle("-fx-font-size: 48px; -fx-font-weight: bold;");
+        welcomeLabel.getStyleClass().add("welcome-label");
         welcomeLabel.setTextFill(Color.WHITE);
         welcomeLabel.setEffect(new javafx.scene.effect.DropShadow(10, Color.BLACK));
         
         Button startButton = new Button("Start Game");
         startButton.setFont(Font.font("System", FontWeight.BOLD, 24));
         startButton.setPrefSize(250, 70);
-        startButton.setStyle("-fx-background-color: #4287f5; -fx-text-fill: white; -fx-background-radius: 10;");
+        startButton.getStyleClass().add("primary-button");
         startButton.setOnAction(e -> showCharacterSelection(primaryStage));
         
         // Create foreground content
@@ -69,10 +117,9 @@ public class App extends Application {
         
         // Create scene and set it to the stage
         Scene scene = new Scene(root, 1024, 768);
-        primaryStage.setTitle("VibeLoop Game");
+        Theme.apply(scene);
         primaryStage.setScene(scene);
         primaryStage.setFullScreen(true);
-        primaryStage.show();
         
         // Log available obstacles for testing
         logAvailableObstacles();
@@ -83,16 +130,32 @@ public class App extends Application {
      */
     private void showCharacterSelection(Stage primaryStage) {
         CharacterSelectionScreen selectionScreen = new CharacterSelectionScreen(
-            primaryStage, characterService, cardService, obstacleService);
+            primaryStage, content, contributionTable, imageCache, bot);
         selectionScreen.show();
     }
     
+    /**
+     * Creates the bot shared by all games, with its own worker threads.
+     */
+    private MctsBot createBot() {
+        // Bots search on their own worker threads so the FX thread never waits for them.
+        // Pass -Dvibeloop.botMillis=<millis> to change the time a bot takes per move.
+        int botWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        botExecutor = Executors.newFixedThreadPool(botWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "bot-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new MctsBot(contributionTable, botExecutor, botWorkers,
+                           Long.getLong("vibeloop.botMillis", MctsBot.DEFAULT_TIME_BUDGET_MILLIS));
+    }
+    
     /**
      * Logs available obstacles for testing.
      */
     private void logAvailableObstacles() {
         System.out.println("\nAvailable Obstacles:");
-        for (var entry : obstacleService.getAllObstacleCards().entrySet()) {
+        for (var entry : content.getObstacleService().getAllObstacleCards().entrySet()) {
             var obstacle = entry.getValue();
             System.out.println("- " + obstacle.getName() + " (Difficulty: " + obstacle.getDifficulty() + ")");
             System.out.println("  Description: " + obstacle.getDescription());
@@ -100,6 +163,14 @@ public class App extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (botExecutor != null) {
+            botExecutor.shutdownNow();
+        }
+        System.out.println("Image cache: " + imageCache);
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,410 @@
+package com.vibeloop.game.ai;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameCommand;
+import com.vibeloop.game.engine.GameEngine;
+import com.vibeloop.game.engine.GamePhase;
+import com.vibeloop.game.engine.GameRules;
+import com.vibeloop.game.engine.ObstacleResolver;
+import com.vibeloop.game.engine.PackedGameState;
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.Player;
+import com.vibeloop.game.service.CardService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Solves the current round and the next obstacles exactly by expectimax search, as the
+ * perfect-play baseline to measure bots and balance against.
+ *
+ * The players win or lose together, so every seat's card or skip is a max node. The
+ * chance nodes are the cards drawn by seats that skip with less than a full hand, which
+ * the seats after them see; draw piles are treated as shuffled, so each card in a pile
+ * is drawn with the probability of its copies.
+ * Awarded cards go to the discard piles, which only return at a time loop, so they do
+ * not change the rounds of a loop and are left out. The solver knows the obstacle
+ * sequence; the search ends after the lookahead, when the loop runs out of obstacles, or
+ * when a player is defeated.
+ *
+ * The values of the round starts are cached in a transposition table keyed by their
+ * {@link PackedGameState packed state}: the characters, obstacle sequence, hands, draw
+ * piles, health and position in the sequence. The search updates one packed state as it
+ * goes, so a lookup hashes nothing and only a new entry is copied. The keys hold the
+ * whole position, so the table is kept across turns and games. A game that does not
+ * fit a packed state, e.g. with more than {@link PackedGameState#MAX_SEATS} seats, is
+ * played by the {@link GreedyPolicy} instead. A solver is not thread-safe.
+ */
+public class ExpectimaxSolver {
+    /**
+     * What the solver optimizes.
+     */
+    public enum Objective {
+        /**
+         * Maximizes the expected number of obstacles overcome; with no lookahead, the
+         * probability of overcoming the current obstacle.
+         */
+        OBSTACLES_OVERCOME,
+
+        /**
+         * Minimizes the expected health lost, counting a defeat, which ends the loop, as
+         * losing the players' remaining health too. Ties are broken by the obstacles
+         * overcome, since a first loop without any ends the game.
+         */
+        DAMAGE
+    }
+
+    // Entries the transposition table holds before it is cleared
+    private static final int MAX_TABLE_ENTRIES = 1 << 20;
+
+    // Value of an overcome obstacle when minimizing health lost, far below one health point
+    private static final double OVERCOME_TIE_BREAK = 1.0 / 1024;
+
+    private static final int SKIP = -1;
+    private static final int ANY = -2;
+
+    private final ContributionTable contributionTable;
+    private final CardService cardService;
+    private final ObstacleResolver resolver;
+    private final Objective objective;
+    private final int lookahead;
+    private final List<Map<PackedGameState, Double>> tables; // By the rounds left to search, from 1
+
+    // The game searched
+    private final List<ObstacleCard> sequence;
+    private Character[] characters;
+
+    // Search state, set up from the engine for each search and restored on the way back
+    private Card[] cardsByIndex;
+    private int seats;
+    private PackedGameState position; // Hands, draw piles and health; the discard piles are left out
+    private Card[][] rounds; // Cards played in the round at each depth, null for a skip
+    private int[][] savedHealth;
+    private int firstSeat;
+    private int bestChoice; // Card index or SKIP of the best play of the first seat
+    private int forcedChoice; // Card index or SKIP the first seat must play, or ANY
+
+    /**
+     * Creates a solver.
+     *
+     * @param contributionTable the contributions of the cards to the obstacles
+     * @param cardService the cards of the game
+     * @param objective what to optimize
+     * @param lookahead the number of obstacles after the current one to search
+     */
+    public ExpectimaxSolver(ContributionTable contributionTable, CardService cardService, Objective objective,
+                            int lookahead) {
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("The lookahead cannot be negative");
+        }
+        this.contributionTable = contributionTable;
+        this.cardService = cardService;
+        this.resolver = new ObstacleResolver(contributionTable);
+        this.objective = objective;
+        this.lookahead = lookahead;
+        this.tables = new ArrayList<>(lookahead);
+        for (int i = 0; i < lookahead; i++) {
+            tables.add(new HashMap<>());
+        }
+        this.sequence = new ArrayList<>();
+    }
+
+    /**
+     * Finds the best play of the seat whose turn it is. The best plays of the seats
+     * after it may depend on the cards drawn by seats that skip, so they are found on
+     * their own turns, mostly from the transposition table. If the game cannot be
+     * packed, the greedy play is returned without a value.
+     *
+     * @param engine the engine, in the play phase
+     * @return the best play and its value
+     * @throws IllegalStateException if the engine is not in the play phase
+     */
+    public Solution solve(GameEngine engine) {
+        checkPhase(engine);
+        if (!engine.canPack()) {
+            return new Solution(Double.NaN, GreedyPolicy.choosePlay(engine, contributionTable));
+        }
+        double value = search(engine, ANY);
+        int seat = engine.getCurrentSeat();
+        GameCommand command = bestChoice != SKIP
+            ? GameCommand.playCard(seat, cardsByIndex[bestChoice]) : GameCommand.skip(seat);
+        return new Solution(value, command);
+    }
+
+    /**
+     * Evaluates a command of the seat whose turn it is, followed by the best plays, e.g.
+     * to measure how far a bot's choice falls short of the best one.
+     *
+     * @param engine the engine, in the play phase
+     * @param command a legal play or skip of the current seat
+     * @return the value of the command
+     * @throws IllegalStateException if the engine is not in the play phase or the game
+     *         cannot be packed
+     */
+    public double evaluate(GameEngine engine, GameCommand command) {
+        checkPhase(engine);
+        if (!engine.canPack()) {
+            throw new IllegalStateException("Cannot evaluate a game that does not fit a packed state");
+        }
+        return search(engine, command.getCard() != null ? command.getCard().getIndex() : SKIP);
+    }
+
+    /**
+     * Clears the transposition table.
+     */
+    public void clear() {
+        for (int i = 0; i < tables.size(); i++) {
+            tables.get(i).clear();
+        }
+    }
+
+    /**
+     * Gets the number of round starts in the transposition table.
+     *
+     * @return the number of entries
+     */
+    public int getTableSize() {
+        int size = 0;
+        for (int i = 0; i < tables.size(); i++) {
+            size += tables.get(i).size();
+        }
+        return size;
+    }
+
+    private static void checkPhase(GameEngine engine) {
+        if (engine.getPhase() != GamePhase.PLAY) {
+            throw new IllegalStateException("Cannot solve a round in phase " + engine.getPhase());
+        }
+    }
+
+    private double search(GameEngine engine, int forcedChoice) {
+        setUp(engine);
+        this.firstSeat = engine.getCurrentSeat();
+        this.forcedChoice = forcedChoice;
+        bestChoice = SKIP;
+        int rounds = lookahead + 1;
+        return playRound(engine.getObstaclesEncountered(), rounds, engine.getCurrentSeat(),
+                         upperBound(engine.getObstaclesEncountered(), rounds));
+    }
+
+    private void setUp(GameEngine engine) {
+        List<Player> players = engine.getPlayers();
+        seats = players.size();
+        characters = new Character[seats];
+        for (int i = 0; i < seats; i++) {
+            characters[i] = players.get(i).getSelectedCharacter();
+        }
+        sequence.clear();
+        sequence.addAll(engine.getObstacleSequence());
+
+        int cardCount = cardService.getCardCount();
+        if (cardsByIndex == null || cardsByIndex.length != cardCount) {
+            cardsByIndex = new Card[cardCount];
+            for (int i = 0; i < cardCount; i++) {
+                cardsByIndex[i] = cardService.getCard(i);
+            }
+        }
+
+        position = new PackedGameState(seats, cardCount, sequence.size());
+        for (int i = 0; i < sequence.size(); i++) {
+            position.setSequenceObstacle(i, sequence.get(i).getIndex());
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = players.get(seat);
+            position.setCharacter(seat, characters[seat].getIndex());
+            position.setHealth(seat, player.getCurrentHealth());
+            List<Card> hand = player.getDeck().getHand();
+            for (int i = 0; i < hand.size(); i++) {
+                int card = hand.get(i).getIndex();
+                position.setHandCount(seat, card, position.getHandCount(seat, card) + 1);
+            }
+            List<Card> pile = player.getDeck().getDrawPile();
+            for (int i = 0; i < pile.size(); i++) {
+                int card = pile.get(i).getIndex();
+                position.setDrawCount(seat, card, position.getDrawCount(seat, card) + 1);
+            }
+        }
+
+        rounds = new Card[lookahead + 1][seats];
+        savedHealth = new int[lookahead + 1][seats];
+        for (int seat = 0; seat < engine.getCurrentSeat(); seat++) {
+            rounds[0][seat] = engine.getPlayedCard(seat);
+        }
+    }
+
+    /**
+     * Gets the value of a round start from the table, searching it if it is not there.
+     */
+    private double valueOfRoundStart(int obstacleIndex, int roundsLeft) {
+        if (roundsLeft == 0 || obstacleIndex >= sequence.size()) {
+            return 0;
+        }
+        position.setObstacleIndex(obstacleIndex);
+        Map<PackedGameState, Double> table = tables.get(roundsLeft - 1);
+        Double cached = table.get(position);
+        if (cached != null) {
+            return cached;
+        }
+        PackedGameState key = position.copy();
+        double value = playRound(obstacleIndex, roundsLeft, 0, upperBound(obstacleIndex, roundsLeft));
+        if (getTableSize() >= MAX_TABLE_ENTRIES) {
+            clear();
+        }
+        table.put(key, value);
+        return value;
+    }
+
+    /**
+     * Finds the best value over the plays of the seats from the given one on. A seat that
+     * skips with less than a full hand draws at once, so the seats after it know the card.
+     * The search of a round stops early once its upper bound is reached.
+     */
+    private double playRound(int obstacleIndex, int roundsLeft, int seat, double bound) {
+        if (seat == seats) {
+            return finishRound(obstacleIndex, roundsLeft);
+        }
+
+        int depth = lookahead + 1 - roundsLeft;
+        boolean first = depth == 0 && seat == firstSeat;
+        double best = Double.NEGATIVE_INFINITY;
+
+        // Skipping is tried first, so a card is only played if it does better
+        if (!(first && forcedChoice != ANY && forcedChoice != SKIP)) {
+            rounds[depth][seat] = null;
+            best = skip(obstacleIndex, roundsLeft, seat, bound);
+            if (first) {
+                bestChoice = SKIP;
+            }
+        }
+        for (int card = 0; card < cardsByIndex.length && best < bound; card++) {
+            int copies = position.getHandCount(seat, card);
+            if (copies == 0 || first && forcedChoice != ANY && forcedChoice != card) {
+                continue;
+            }
+            position.setHandCount(seat, card, copies - 1);
+            rounds[depth][seat] = cardsByIndex[card];
+            double value = playRound(obstacleIndex, roundsLeft, seat + 1, bound);
+            position.setHandCount(seat, card, copies);
+            if (value > best) {
+                best = value;
+                if (first) {
+                    bestChoice = card;
+                }
+            }
+        }
+        rounds[depth][seat] = null;
+        return best;
+    }
+
+    /**
+     * Averages the rest of the round over the cards a skipping seat may draw.
+     */
+    private double skip(int obstacleIndex, int roundsLeft, int seat, double bound) {
+        // A card drawn in the last round searched cannot change the outcome
+        int pileSize = position.getDrawPileSize(seat);
+        boolean draws = position.getHandSize(seat) < GameRules.HAND_SIZE && pileSize > 0;
+        if (!draws || roundsLeft == 1 || obstacleIndex + 1 >= sequence.size()) {
+            return playRound(obstacleIndex, roundsLeft, seat + 1, bound);
+        }
+
+        double total = pileSize;
+        double expected = 0;
+        for (int card = 0; card < cardsByIndex.length; card++) {
+            int copies = position.getDrawCount(seat, card);
+            if (copies == 0) {
+                continue;
+            }
+            int inHand = position.getHandCount(seat, card);
+            position.drawCard(seat, card);
+            expected += copies / total * playRound(obstacleIndex, roundsLeft, seat + 1, bound);
+            position.setHandCount(seat, card, inHand);
+            position.setDrawCount(seat, card, copies);
+        }
+        return expected;
+    }
+
+    /**
+     * Resolves a round whose seats have all played, then continues with the next round.
+     */
+    private double finishRound(int obstacleIndex, int roundsLeft) {
+        int depth = lookahead + 1 - roundsLeft;
+        int damage = resolver.resolve(sequence.get(obstacleIndex), rounds[depth], characters, seats);
+        if (damage == 0) {
+            double value = objective == Objective.OBSTACLES_OVERCOME ? 1 : OVERCOME_TIE_BREAK;
+            return value + valueOfRoundStart(obstacleIndex + 1, roundsLeft - 1);
+        }
+
+        // Split the damage as the engine does
+        int[] saved = savedHealth[depth];
+        boolean defeated = false;
+        double value = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            int share = damage / seats + (seat < damage % seats ? 1 : 0);
+            saved[seat] = position.getHealth(seat);
+            int lost = Math.min(share, saved[seat]);
+            position.setHealth(seat, saved[seat] - lost);
+            defeated |= saved[seat] == lost;
+            if (objective == Objective.DAMAGE) {
+                value -= lost;
+            }
+        }
+        if (defeated) {
+            // The loop ends
+            if (objective == Objective.DAMAGE) {
+                for (int seat = 0; seat < seats; seat++) {
+                    value -= position.getHealth(seat);
+                }
+            }
+        } else {
+            value += valueOfRoundStart(obstacleIndex + 1, roundsLeft - 1);
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            position.setHealth(seat, saved[seat]);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the best value the rounds from a position could have.
+     */
+    private double upperBound(int obstacleIndex, int roundsLeft) {
+        int rounds = Math.min(roundsLeft, sequence.size() - obstacleIndex);
+        return objective == Objective.OBSTACLES_OVERCOME ? rounds : rounds * OVERCOME_TIE_BREAK;
+    }
+
+    /**
+     * The best play of a seat and its value.
+     */
+    public static final class Solution {
+        private final double value;
+        private final GameCommand command;
+
+        private Solution(double value, GameCommand command) {
+            this.value = value;
+            this.command = command;
+        }
+
+        /**
+         * Gets the value of the best play: the expected number of obstacles overcome, or
+         * the negated expected health lost, depending on the objective.
+         *
+         * @return the value, or NaN if the game could not be packed and the play is greedy
+         */
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * Gets the best play or skip.
+         *
+         * @return the command
+         */
+        public GameCommand getCommand() {
+            return command;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.vibeloop.game.ai;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameCommand;
+import com.vibeloop.game.engine.GameEngine;
+import com.vibeloop.game.engine.ObstacleResolver;
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.Player;
+
+import java.util.List;
+
+/**
+ * A fast rule of thumb for playing a game: every seat plays the card in hand with the
+ * highest contribution to the current obstacle, and skips when no card would
+ * contribute. At a time loop each player removes the card using their weakest stat.
+ */
+public final class GreedyPolicy {
+    private GreedyPolicy() {
+    }
+
+    /**
+     * Chooses the command of the seat whose turn it is.
+     *
+     * @param engine the engine, in the play phase
+     * @param contributionTable the contributions of the cards to the obstacles
+     * @return the command playing the best card, or skipping
+     */
+    public static GameCommand choosePlay(GameEngine engine, ContributionTable contributionTable) {
+        int seat = engine.getCurrentSeat();
+        Player player = engine.getPlayers().get(seat);
+        Card card = chooseCard(contributionTable, engine.getCurrentObstacle(), player.getDeck().getHand(),
+                               player.getSelectedCharacter());
+        return card != null ? GameCommand.playCard(seat, card) : GameCommand.skip(seat);
+    }
+
+    /**
+     * Lets every seat that has to remove a card remove its weakest one.
+     *
+     * @param engine the engine, in the card removal phase
+     */
+    public static void removeCards(GameEngine engine) {
+        List<Player> players = engine.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (engine.isRemovalPending(seat)) {
+                engine.submit(GameCommand.removeCard(seat, chooseCardToRemove(players.get(seat))));
+            }
+        }
+    }
+
+    /**
+     * Chooses the card in hand with the highest contribution to an obstacle.
+     *
+     * @param contributionTable the contributions of the cards to the obstacles
+     * @param obstacle the obstacle
+     * @param hand the cards in hand
+     * @param character the character playing the card
+     * @return the best card, or null if no card would contribute
+     */
+    public static Card chooseCard(ContributionTable contributionTable, ObstacleCard obstacle, List<Card> hand,
+                                  Character character) {
+        Card bestCard = null;
+        int bestValue = 0;
+
+        for (int i = 0; i < hand.size(); i++) {
+            Card card = hand.get(i);
+            int value = contributionTable.getContribution(character, card, obstacle);
+            if (value > bestValue) {
+                bestValue = value;
+                bestCard = card;
+            }
+        }
+        return bestCard;
+    }
+
+    /**
+     * Chooses the card of a player's deck using their weakest stat.
+     *
+     * @param player the player, whose deck must not be empty
+     * @return the card to remove
+     */
+    public static Card chooseCardToRemove(Player player) {
+        List<Card> cards = player.getDeck().getCards();
+        Character character = player.getSelectedCharacter();
+        Card weakestCard = cards.get(0);
+        int weakestValue = ObstacleResolver.getFinaleContribution(weakestCard, character);
+        for (int i = 1; i < cards.size(); i++) {
+            int value = ObstacleResolver.getFinaleContribution(cards.get(i), character);
+            if (value < weakestValue) {
+                weakestValue = value;
+                weakestCard = cards.get(i);
+            }
+        }
+        return weakestCard;
+    }
+}
@@ -0,0 +1,267 @@
+package com.vibeloop.game.ai;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameCommand;
+import com.vibeloop.game.engine.GameEngine;
+import com.vibeloop.game.engine.GameOutcome;
+import com.vibeloop.game.engine.GamePhase;
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A bot choosing a seat's card or skip by Monte Carlo tree search.
+ *
+ * Every iteration copies the game and replaces what the players cannot see, the order of
+ * the draw piles and in the first loop the obstacles still to come, with a random guess.
+ * It then descends the search tree, taking the turns of all seats since the players win
+ * or lose together, until it adds a new node, and plays the game out from there with the
+ * {@link GreedyPolicy}. A victory scores 1, any other outcome half the share of the
+ * obstacle sequence overcome.
+ *
+ * Several workers search the same tree until the time budget runs out. Nodes are updated
+ * with atomic operations instead of locks: a worker counts its visit as it descends
+ * through a node and adds the reward only after its play-out, so until then the node
+ * looks worse to the other workers and they spread over other moves (virtual loss). The
+ * most visited move is chosen.
+ */
+public class MctsBot {
+    /**
+     * The time a bot searches for a move by default.
+     */
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 50;
+
+    private static final double EXPLORATION = 0.7;
+    private static final long REWARD_SCALE = 1L << 20; // Rewards are summed in fixed point
+    private static final int SKIP = -1;
+
+    private final ContributionTable contributionTable;
+    private final Executor executor;
+    private final int workers;
+    private final long timeBudgetNanos;
+
+    /**
+     * Creates a bot.
+     *
+     * @param contributionTable the contributions of the cards to the obstacles
+     * @param executor the worker pool to search on
+     * @param workers the number of workers searching each move
+     * @param timeBudgetMillis the time to search each move, in milliseconds
+     */
+    public MctsBot(ContributionTable contributionTable, Executor executor, int workers, long timeBudgetMillis) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("A bot needs at least one worker");
+        }
+        this.contributionTable = contributionTable;
+        this.executor = executor;
+        this.workers = workers;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+    }
+
+    /**
+     * Starts searching the command of the seat whose turn it is. The game is copied on
+     * the calling thread, so the engine can be used again as soon as this returns, and
+     * the search runs on the worker pool. The guesses of the hidden state come from
+     * random sources derived from the seed, e.g. one derived from the game seed and the
+     * turn. How many guesses are searched depends on the time budget and the threads,
+     * so the chosen move is not reproducible from the seed alone.
+     *
+     * @param engine the engine, in the play phase
+     * @param seed the seed of the search's random sources
+     * @return a future completed with the command once the time budget is used
+     * @throws IllegalStateException if the engine is not in the play phase
+     */
+    public CompletableFuture<GameCommand> chooseCommand(GameEngine engine, long seed) {
+        if (engine.getPhase() != GamePhase.PLAY) {
+            throw new IllegalStateException("Cannot choose a command in phase " + engine.getPhase());
+        }
+        GameEngine snapshot = engine.copy(new GameRandom(seed));
+        Node root = new Node(SKIP, null);
+        long deadline = System.nanoTime() + timeBudgetNanos;
+
+        CompletableFuture<?>[] searches = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            GameRandom random = new GameRandom(GameRandom.seedFor(seed, i));
+            searches[i] = CompletableFuture.runAsync(() -> search(snapshot, root, deadline, random), executor);
+        }
+        return CompletableFuture.allOf(searches).thenApply(ignored -> chooseMove(snapshot, root));
+    }
+
+    /**
+     * Runs iterations until the deadline, at least one.
+     */
+    private void search(GameEngine snapshot, Node root, long deadline, GameRandom random) {
+        List<Node> path = new ArrayList<>();
+        do {
+            GameEngine game = snapshot.copy(random);
+            game.randomizeHiddenState();
+            iterate(game, root, path);
+        } while (System.nanoTime() < deadline);
+    }
+
+    private void iterate(GameEngine game, Node root, List<Node> path) {
+        path.clear();
+        Node node = root;
+        node.visits.incrementAndGet();
+        path.add(node);
+
+        boolean expanded = false;
+        while (!expanded) {
+            game.advance();
+            if (game.getPhase() == GamePhase.CARD_REMOVAL) {
+                GreedyPolicy.removeCards(game);
+                continue;
+            }
+            if (game.getPhase() != GamePhase.PLAY) {
+                break;
+            }
+
+            // Select among the moves of this guess, adding the first one not tried yet
+            int seat = game.getCurrentSeat();
+            List<Card> hand = game.getPlayers().get(seat).getDeck().getHand();
+            double logVisits = Math.log(Math.max(1, node.visits.get()));
+            Node selected = null;
+            Card selectedCard = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i <= hand.size(); i++) {
+                Card card = i < hand.size() ? hand.get(i) : null;
+                int action = card != null ? card.getIndex() : SKIP;
+                Node child = node.findChild(action);
+                if (child == null) {
+                    selected = node.addChild(action);
+                    selectedCard = card;
+                    expanded = true;
+                    break;
+                }
+                double score = child.score(logVisits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    selected = child;
+                    selectedCard = card;
+                }
+            }
+
+            selected.visits.incrementAndGet();
+            path.add(selected);
+            game.submit(selectedCard != null ? GameCommand.playCard(seat, selectedCard) : GameCommand.skip(seat));
+            node = selected;
+        }
+
+        long reward = Math.round(playOut(game) * REWARD_SCALE);
+        for (int i = 0; i < path.size(); i++) {
+            path.get(i).reward.addAndGet(reward);
+        }
+    }
+
+    /**
+     * Plays the game to the end with the greedy policy.
+     *
+     * @return the reward of the outcome, between 0 and 1
+     */
+    private double playOut(GameEngine game) {
+        while (true) {
+            game.advance();
+            switch (game.getPhase()) {
+                case PLAY:
+                    game.submit(GreedyPolicy.choosePlay(game, contributionTable));
+                    break;
+                case CARD_REMOVAL:
+                    GreedyPolicy.removeCards(game);
+                    break;
+                default:
+                    if (game.getOutcome() == GameOutcome.VICTORY) {
+                        return 1.0;
+                    }
+                    int sequenceLength = Math.max(1, game.getObstacleSequence().size());
+                    return 0.5 * Math.min(1.0, (double) game.getObstaclesOvercome() / sequenceLength);
+            }
+        }
+    }
+
+    private GameCommand chooseMove(GameEngine snapshot, Node root) {
+        Node best = null;
+        for (Node child = root.firstChild.get(); child != null; child = child.sibling) {
+            if (best == null || child.visits.get() > best.visits.get()) {
+                best = child;
+            }
+        }
+        int seat = snapshot.getCurrentSeat();
+        if (best == null) {
+            return GreedyPolicy.choosePlay(snapshot, contributionTable);
+        }
+        if (best.action != SKIP) {
+            List<Card> hand = snapshot.getPlayers().get(seat).getDeck().getHand();
+            for (int i = 0; i < hand.size(); i++) {
+                if (hand.get(i).getIndex() == best.action) {
+                    return GameCommand.playCard(seat, hand.get(i));
+                }
+            }
+        }
+        return GameCommand.skip(seat);
+    }
+
+    /**
+     * A node of the search tree, for the move that led to it. Children are pushed onto a
+     * linked list by compare-and-set, so the tree only grows and never needs a lock.
+     */
+    private static final class Node {
+        final int action; // The index of the card played, or SKIP
+        final Node sibling;
+        final AtomicReference<Node> firstChild = new AtomicReference<>();
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicLong reward = new AtomicLong();
+
+        Node(int action, Node sibling) {
+            this.action = action;
+            this.sibling = sibling;
+        }
+
+        Node findChild(int action) {
+            return find(firstChild.get(), action);
+        }
+
+        /**
+         * Adds the child for a move, or returns it if another worker added it first.
+         */
+        Node addChild(int action) {
+            while (true) {
+                Node head = firstChild.get();
+                Node child = find(head, action);
+                if (child != null) {
+                    return child;
+                }
+                child = new Node(action, head);
+                if (firstChild.compareAndSet(head, child)) {
+                    return child;
+                }
+            }
+        }
+
+        /**
+         * Scores the node for selection, by upper confidence bound.
+         */
+        double score(double logParentVisits) {
+            int n = visits.get();
+            if (n == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double mean = (double) reward.get() / REWARD_SCALE / n;
+            return mean + EXPLORATION * Math.sqrt(logParentVisits / n);
+        }
+
+        private static Node find(Node node, int action) {
+            while (node != null && node.action != action) {
+                node = node.sibling;
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.CharacterService;
+import com.vibeloop.game.service.ObstacleService;
+
+/**
+ * Precomputed contribution of every card to every obstacle for every character.
+ *
+ * A contribution only depends on the character's stats, the card and the obstacle, so the
+ * table is built once after the services have loaded and is read-only afterwards, which
+ * makes it safe to share between threads. Entries are stored in one dense array indexed by
+ * character, card and obstacle index. For the finale an entry is the contribution the card
+ * adds to each of its compatible requirements.
+ */
+public class ContributionTable {
+    private final int cardCount;
+    private final int obstacleCount;
+    private final int[] contributions;
+
+    public ContributionTable(CharacterService characterService, CardService cardService,
+                             ObstacleService obstacleService) {
+        int characterCount = characterService.getCharacterCount();
+        this.cardCount = cardService.getCardCount();
+        this.obstacleCount = obstacleService.getObstacleCount();
+        this.contributions = new int[characterCount * cardCount * obstacleCount];
+
+        int entry = 0;
+        for (int c = 0; c < characterCount; c++) {
+            Character character = characterService.getCharacter(c);
+            for (int k = 0; k < cardCount; k++) {
+                Card card = cardService.getCard(k);
+                for (int o = 0; o < obstacleCount; o++) {
+                    ObstacleCard obstacle = obstacleService.getObstacleCard(o);
+                    contributions[entry++] = obstacle.isFinale()
+                        ? ObstacleResolver.getFinaleContribution(card, character)
+                        : ObstacleResolver.getRegularContribution(obstacle, card, character);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the contribution of a card played by a character against an obstacle.
+     *
+     * @param character the character playing the card
+     * @param card the card played
+     * @param obstacle the obstacle
+     * @return the card's contribution
+     */
+    public int getContribution(Character character, Card card, ObstacleCard obstacle) {
+        return contributions[(character.getIndex() * cardCount + card.getIndex()) * obstacleCount
+            + obstacle.getIndex()];
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Card;
+
+/**
+ * A decision of one seat, submitted to the {@link GameEngine}.
+ *
+ * Commands are plain values, so the UI, the simulator and bots drive the engine the same
+ * way, and a game can be replayed from its seed and the commands submitted to it.
+ */
+public final class GameCommand {
+    /**
+     * The kinds of commands.
+     */
+    public enum Type {
+        /**
+         * Plays a card from the seat's hand against the current obstacle.
+         */
+        PLAY_CARD,
+
+        /**
+         * Plays no card this round; the seat draws a card if its hand is not full.
+         */
+        SKIP,
+
+        /**
+         * Removes a card from the seat's deck at the start of a time loop.
+         */
+        REMOVE_CARD
+    }
+
+    private final Type type;
+    private final int seat;
+    private final Card card;
+
+    private GameCommand(Type type, int seat, Card card) {
+        this.type = type;
+        this.seat = seat;
+        this.card = card;
+    }
+
+    /**
+     * Creates a command playing a card.
+     *
+     * @param seat the seat playing the card
+     * @param card the card from the seat's hand
+     * @return the command
+     */
+    public static GameCommand playCard(int seat, Card card) {
+        return new GameCommand(Type.PLAY_CARD, seat, card);
+    }
+
+    /**
+     * Creates a command skipping a turn.
+     *
+     * @param seat the seat skipping
+     * @return the command
+     */
+    public static GameCommand skip(int seat) {
+        return new GameCommand(Type.SKIP, seat, null);
+    }
+
+    /**
+     * Creates a command removing a card at the start of a time loop.
+     *
+     * @param seat the seat removing the card
+     * @param card the card from the seat's deck
+     * @return the command
+     */
+    public static GameCommand removeCard(int seat, Card card) {
+        return new GameCommand(Type.REMOVE_CARD, seat, card);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the card played or removed.
+     *
+     * @return the card, or null for a skip
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    @Override
+    public String toString() {
+        return type + " seat " + seat + (card != null ? " " + card.getId() : "");
+    }
+}
@@ -0,0 +1,748 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.Deck;
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleDeck;
+import com.vibeloop.game.model.ObstacleResult;
+import com.vibeloop.game.model.Player;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs a game as an explicit state machine, independent of the UI.
+ *
+ * The game moves through the {@link GamePhase phases} of drawing an obstacle, playing a
+ * round, resolving it, awarding cards, resetting the time loop and removing cards, until
+ * it is over. In the play and card removal phases the engine waits for
+ * {@link GameCommand commands} from the seats; it advances through the other phases one
+ * {@link #step() step} at a time, or up to the next decision with {@link #advance()}.
+ * All state lives in the engine and the players, so the game screen only submits the
+ * players' commands and observes the engine through {@link GameListener listeners},
+ * while the simulator drives many engines headless at full speed. All randomness comes
+ * from the game random, so a game can be replayed from its seed and commands.
+ *
+ * An engine is not thread-safe; each game should be driven from one thread. A bot can
+ * {@link #copy(GameRandom) copy} an engine to play out hypothetical games on other threads.
+ */
+public class GameEngine {
+    private final List<Player> players;
+    private final Character[] characters;
+    private final CardService cardService;
+    private final ObstacleService obstacleService;
+    private final ContributionTable contributionTable;
+    private final ObstacleResolver resolver;
+    private final GameRandom random;
+    private final List<GameListener> listeners;
+
+    // Preserve the original order of the obstacle deck for the time loop mechanic
+    private final List<ObstacleCard> originalObstacleOrder;
+    private ObstacleDeck obstacleDeck;
+
+    private GamePhase phase;
+    private GameOutcome outcome;
+    private int loop;
+    private int maxObstaclesPassed; // Most obstacles encountered in an earlier loop
+    private int obstaclesEncountered; // Obstacles encountered in the current loop
+    private int successfulObstacles; // Obstacles overcome in the current loop
+    private int obstaclesOvercome; // Obstacles overcome in all loops
+
+    // The current round; seats before the current seat have played
+    private ObstacleCard currentObstacle;
+    private final Card[] roundCards;
+    private int currentSeat;
+
+    // Seats that still have to remove a card before the next loop is dealt
+    private final boolean[] removalPending;
+    private int removalsPending;
+
+    /**
+     * Creates an engine for a game. The players must have their characters and starter
+     * decks; the game begins with {@link #start()}.
+     *
+     * @param players the players, in seat order
+     * @param cardService the cards awarded as rewards
+     * @param obstacleService the obstacles to build the obstacle deck from
+     * @param contributionTable the contributions of the cards to the obstacles
+     * @param random the random source of the game
+     */
+    public GameEngine(List<Player> players, CardService cardService, ObstacleService obstacleService,
+                      ContributionTable contributionTable, GameRandom random) {
+        if (players.isEmpty()) {
+            throw new IllegalArgumentException("A game needs at least one player");
+        }
+        this.players = players;
+        this.characters = new Character[players.size()];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = players.get(i).getSelectedCharacter();
+        }
+        this.cardService = cardService;
+        this.obstacleService = obstacleService;
+        this.contributionTable = contributionTable;
+        this.resolver = new ObstacleResolver(contributionTable);
+        this.random = random;
+        this.listeners = new ArrayList<>();
+        this.originalObstacleOrder = new ArrayList<>();
+        this.roundCards = new Card[players.size()];
+        this.removalPending = new boolean[players.size()];
+        this.phase = GamePhase.GAME_OVER;
+    }
+
+    private GameEngine(GameEngine engine, GameRandom random) {
+        this.players = new ArrayList<>(engine.players.size());
+        for (int i = 0; i < engine.players.size(); i++) {
+            players.add(engine.players.get(i).copy(random));
+        }
+        this.characters = engine.characters;
+        this.cardService = engine.cardService;
+        this.obstacleService = engine.obstacleService;
+        this.contributionTable = engine.contributionTable;
+        this.resolver = new ObstacleResolver(contributionTable);
+        this.random = random;
+        this.listeners = new ArrayList<>();
+        this.originalObstacleOrder = new ArrayList<>(engine.originalObstacleOrder);
+        if (engine.obstacleDeck != null) {
+            // Only the draw pile matters to the rest of the game
+            this.obstacleDeck = new ObstacleDeck(random);
+            obstacleDeck.addCards(engine.obstacleDeck.getDrawPile());
+        }
+        this.phase = engine.phase;
+        this.outcome = engine.outcome;
+        this.loop = engine.loop;
+        this.maxObstaclesPassed = engine.maxObstaclesPassed;
+        this.obstaclesEncountered = engine.obstaclesEncountered;
+        this.successfulObstacles = engine.successfulObstacles;
+        this.obstaclesOvercome = engine.obstaclesOvercome;
+        this.currentObstacle = engine.currentObstacle;
+        this.roundCards = engine.roundCards.clone();
+        this.currentSeat = engine.currentSeat;
+        this.removalPending = engine.removalPending.clone();
+        this.removalsPending = engine.removalsPending;
+    }
+
+    /**
+     * Creates an independent copy of the game in its current state, with copies of the
+     * players and their decks but without the listeners. The copy can be driven on
+     * another thread while this engine is not modified.
+     *
+     * @param random the random source of the copy
+     * @return the copy
+     */
+    public GameEngine copy(GameRandom random) {
+        return new GameEngine(this, random);
+    }
+
+    /**
+     * Replaces the information the players cannot see with a random guess consistent
+     * with what they have seen, so a bot searching a copy of the game does not peek. The
+     * draw piles of all players are shuffled, and in the first loop the obstacles not
+     * yet drawn are replaced with a random selection of the regular obstacles not seen
+     * so far, keeping the finale last. From the second loop on the obstacle sequence is
+     * known.
+     */
+    public void randomizeHiddenState() {
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).getDeck().shuffle();
+        }
+        if (loop != 1 || obstacleDeck == null) {
+            return;
+        }
+
+        List<ObstacleCard> remaining = new ArrayList<>(obstacleDeck.getDrawPile());
+        int drawn = originalObstacleOrder.size() - remaining.size();
+        List<ObstacleCard> seen = originalObstacleOrder.subList(0, drawn);
+        List<ObstacleCard> unseen = new ArrayList<>();
+        for (int i = 0; i < obstacleService.getObstacleCount(); i++) {
+            ObstacleCard obstacle = obstacleService.getObstacleCard(i);
+            if (!obstacle.isFinale() && !seen.contains(obstacle)) {
+                unseen.add(obstacle);
+            }
+        }
+        random.shuffle(unseen);
+
+        int next = 0;
+        for (int i = 0; i < remaining.size(); i++) {
+            if (!remaining.get(i).isFinale() && next < unseen.size()) {
+                remaining.set(i, unseen.get(next++));
+                originalObstacleOrder.set(drawn + i, remaining.get(i));
+            }
+        }
+        obstacleDeck = new ObstacleDeck(random);
+        obstacleDeck.addCards(remaining);
+    }
+
+    /**
+     * Adds a listener to observe the game.
+     *
+     * @param listener the listener
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts a new game: the players are healed and dealt their opening hands, and a new
+     * obstacle deck is created. The engine is then in the draw phase. Starting again
+     * after a game plays another game with the same players and their current decks.
+     */
+    public void start() {
+        loop = 1;
+        maxObstaclesPassed = 0;
+        obstaclesEncountered = 0;
+        successfulObstacles = 0;
+        obstaclesOvercome = 0;
+        outcome = null;
+        currentObstacle = null;
+        Arrays.fill(roundCards, null);
+        currentSeat = 0;
+
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            Deck deck = player.getDeck();
+            player.heal(player.getSelectedCharacter().getHealth());
+            if (deck.getDrawPile().size() == deck.getCards().size()) {
+                deck.shuffle();
+            } else {
+                // Gather the cards of an earlier game back into the draw pile
+                deck.resetDeckForTimeLoop();
+            }
+            deck.drawCards(GameRules.HAND_SIZE);
+        }
+
+        obstacleDeck = obstacleService.createObstacleDeck(random);
+        originalObstacleOrder.clear();
+        originalObstacleOrder.addAll(obstacleDeck.getAllCards());
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).handsDealt();
+        }
+        setPhase(GamePhase.DRAW);
+    }
+
+    /**
+     * Advances the game through one phase that does not wait for commands.
+     *
+     * @throws IllegalStateException if the engine is waiting for commands or the game is over
+     */
+    public void step() {
+        switch (phase) {
+            case DRAW:
+                drawObstacle();
+                break;
+            case RESOLVE:
+                resolveObstacle();
+                break;
+            case REWARD:
+                awardCards();
+                break;
+            case LOOP_RESET:
+                resetLoop();
+                break;
+            default:
+                throw new IllegalStateException("Cannot step the engine in phase " + phase);
+        }
+    }
+
+    /**
+     * Steps the game until it waits for commands or is over.
+     */
+    public void advance() {
+        while (!phase.isAwaitingCommand() && phase != GamePhase.GAME_OVER) {
+            step();
+        }
+    }
+
+    /**
+     * Checks if a command can be submitted in the current state.
+     *
+     * @param command the command
+     * @return true if the command is legal now
+     */
+    public boolean isLegal(GameCommand command) {
+        int seat = command.getSeat();
+        if (seat < 0 || seat >= players.size()) {
+            return false;
+        }
+        Deck deck = players.get(seat).getDeck();
+        switch (command.getType()) {
+            case PLAY_CARD:
+                return phase == GamePhase.PLAY && seat == currentSeat && contains(deck.getHand(), command.getCard());
+            case SKIP:
+                return phase == GamePhase.PLAY && seat == currentSeat;
+            case REMOVE_CARD:
+                return phase == GamePhase.CARD_REMOVAL && removalPending[seat] &&
+                       contains(deck.getCards(), command.getCard());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Applies a command. Playing or skipping ends the seat's turn, and after the last
+     * seat the engine moves on to resolving the obstacle. Once every seat has removed a
+     * card, the players are dealt the new loop and the engine moves on to drawing.
+     *
+     * @param command the command
+     * @throws IllegalStateException if the command is not legal now
+     */
+    public void submit(GameCommand command) {
+        if (!isLegal(command)) {
+            throw new IllegalStateException("Illegal command in phase " + phase + ": " + command);
+        }
+        if (command.getType() == GameCommand.Type.REMOVE_CARD) {
+            removeCard(command.getSeat(), command.getCard());
+        } else {
+            playTurn(command.getCard());
+        }
+    }
+
+    private static boolean contains(List<Card> cards, Card card) {
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i) == card) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void playTurn(Card card) {
+        Player player = players.get(currentSeat);
+        Deck deck = player.getDeck();
+        if (card != null) {
+            deck.playCard(card);
+        } else if (deck.getHand().size() < GameRules.HAND_SIZE) {
+            // Skipping draws a card to refill the hand
+            deck.drawCard();
+        }
+        roundCards[currentSeat++] = card;
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cardPlayed(player, card);
+        }
+        if (currentSeat == players.size()) {
+            setPhase(GamePhase.RESOLVE);
+        } else {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).turnStarted(currentSeat);
+            }
+        }
+    }
+
+    private void drawObstacle() {
+        currentObstacle = obstacleDeck.drawObstacle();
+        if (currentObstacle == null) {
+            // The loop is complete; it only counts if it got further than the previous one
+            endGame(loop == 1 || obstaclesEncountered > maxObstaclesPassed
+                    ? GameOutcome.VICTORY : GameOutcome.LOOP_COLLAPSE);
+            return;
+        }
+
+        Arrays.fill(roundCards, null);
+        currentSeat = 0;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).obstacleDrawn(currentObstacle);
+        }
+        setPhase(GamePhase.PLAY);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnStarted(currentSeat);
+        }
+    }
+
+    private void resolveObstacle() {
+        int damage = resolver.resolve(currentObstacle, roundCards, characters, players.size());
+        boolean succeeded = damage == 0;
+        obstaclesEncountered++;
+
+        if (succeeded) {
+            successfulObstacles++;
+            obstaclesOvercome++;
+            obstacleDeck.defeatObstacle(currentObstacle);
+        } else {
+            GameRules.distributeDamage(players, damage);
+        }
+
+        if (!listeners.isEmpty()) {
+            ObstacleResult result = new ObstacleResult(currentObstacle, succeeded, loop);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).obstacleResolved(result, damage);
+            }
+        }
+
+        if (succeeded) {
+            setPhase(GamePhase.REWARD);
+        } else {
+            endRound();
+        }
+    }
+
+    private void awardCards() {
+        if (cardService.getCardCount() > 0) {
+            if (currentObstacle.isFinale()) {
+                for (int i = 0; i < players.size(); i++) {
+                    awardRandomCard(players.get(i));
+                }
+            } else {
+                awardRandomCard(players.get(random.nextInt(players.size())));
+            }
+        }
+        endRound();
+    }
+
+    private void awardRandomCard(Player player) {
+        // Decks share card definitions instead of copying them
+        Card card = cardService.getRandomCard(random);
+        player.getDeck().addCardToDiscard(card);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cardAwarded(player, card);
+        }
+    }
+
+    /**
+     * Decides what follows a resolved round: the game ends if the loop ran out of
+     * obstacles without getting further than the previous one, a defeated player starts
+     * the time loop, and otherwise the next obstacle is drawn.
+     */
+    private void endRound() {
+        if (obstacleDeck.isEmpty() && loop > 1 && obstaclesEncountered <= maxObstaclesPassed) {
+            endGame(GameOutcome.LOOP_COLLAPSE);
+        } else if (GameRules.isAnyPlayerDefeated(players)) {
+            setPhase(GamePhase.LOOP_RESET);
+        } else {
+            setPhase(GamePhase.DRAW);
+        }
+    }
+
+    private void resetLoop() {
+        if (loop > 1 && obstaclesEncountered <= maxObstaclesPassed) {
+            endGame(GameOutcome.LOOP_COLLAPSE);
+            return;
+        }
+        if (loop == 1 && successfulObstacles == 0) {
+            endGame(GameOutcome.FIRST_LOOP_WIPEOUT);
+            return;
+        }
+
+        maxObstaclesPassed = Math.max(maxObstaclesPassed, obstaclesEncountered);
+        loop++;
+        obstaclesEncountered = 0;
+        successfulObstacles = 0;
+
+        // Replay the same obstacle sequence
+        obstacleDeck = new ObstacleDeck(random);
+        obstacleDeck.addCards(originalObstacleOrder);
+
+        removalsPending = 0;
+        for (int i = 0; i < players.size(); i++) {
+            removalPending[i] = !players.get(i).getDeck().getCards().isEmpty();
+            if (removalPending[i]) {
+                removalsPending++;
+            }
+        }
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).timeLoopStarted(loop);
+        }
+        if (removalsPending > 0) {
+            setPhase(GamePhase.CARD_REMOVAL);
+        } else {
+            dealLoop();
+        }
+    }
+
+    private void removeCard(int seat, Card card) {
+        Player player = players.get(seat);
+        player.getDeck().removeCard(card);
+        removalPending[seat] = false;
+        removalsPending--;
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cardRemoved(player, card);
+        }
+        if (removalsPending == 0) {
+            dealLoop();
+        }
+    }
+
+    /**
+     * Heals the players and deals them the hands of a new loop from their whole decks.
+     */
+    private void dealLoop() {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.heal(player.getSelectedCharacter().getHealth());
+            player.getDeck().resetDeckForTimeLoop();
+            player.getDeck().drawCards(GameRules.HAND_SIZE);
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).handsDealt();
+        }
+        setPhase(GamePhase.DRAW);
+    }
+
+    private void endGame(GameOutcome outcome) {
+        this.outcome = outcome;
+        setPhase(GamePhase.GAME_OVER);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).gameOver(outcome);
+        }
+    }
+
+    private void setPhase(GamePhase phase) {
+        this.phase = phase;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).phaseChanged(phase);
+        }
+    }
+
+    /**
+     * Checks if the game fits the limits of a {@link PackedGameState}. A long campaign
+     * can leave it, e.g. when rewards pile up more copies of a card than a pile can count.
+     *
+     * @return true if the game can be packed
+     */
+    public boolean canPack() {
+        int cardCount = cardService.getCardCount();
+        if (players.size() > PackedGameState.MAX_SEATS || cardCount > PackedGameState.MAX_CARDS ||
+            obstacleService.getObstacleCount() > PackedGameState.MAX_OBSTACLES ||
+            originalObstacleOrder.size() > PackedGameState.MAX_OBSTACLES || loop > PackedGameState.MAX_LOOP) {
+            return false;
+        }
+        int[] copies = new int[cardCount];
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            Deck deck = player.getDeck();
+            if (characters[seat].getIndex() >= PackedGameState.MAX_CHARACTERS ||
+                player.getCurrentHealth() > PackedGameState.MAX_HEALTH ||
+                !copiesFit(deck.getHand(), copies, PackedGameState.MAX_HAND_COPIES) ||
+                !copiesFit(deck.getDrawPile(), copies, PackedGameState.MAX_PILE_COPIES) ||
+                !copiesFit(deck.getDiscardPile(), copies, PackedGameState.MAX_PILE_COPIES)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean copiesFit(List<Card> pile, int[] copies, int maxCopies) {
+        Arrays.fill(copies, 0);
+        for (int i = 0; i < pile.size(); i++) {
+            if (++copies[pile.get(i).getIndex()] > maxCopies) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the state of the game into its canonical form, e.g. as a cheap key for
+     * searches and replay checks. The packed state is the whole state, including the
+     * obstacles the players have not seen yet; the order of the draw piles is dropped.
+     *
+     * @return the packed state, or null if the game does not fit, see {@link #canPack()}
+     */
+    public PackedGameState pack() {
+        if (!canPack()) {
+            return null;
+        }
+        PackedGameState state = new PackedGameState(players.size(), cardService.getCardCount(),
+                                                    originalObstacleOrder.size());
+        state.setPhase(phase);
+        state.setOutcome(outcome);
+        state.setLoop(loop);
+        state.setObstacleIndex(obstaclesEncountered);
+        state.setSuccessfulObstacles(successfulObstacles);
+        state.setMaxObstaclesPassed(maxObstaclesPassed);
+        state.setCurrentSeat(currentSeat);
+        for (int i = 0; i < originalObstacleOrder.size(); i++) {
+            state.setSequenceObstacle(i, originalObstacleOrder.get(i).getIndex());
+        }
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            state.setCharacter(seat, characters[seat].getIndex());
+            state.setHealth(seat, player.getCurrentHealth());
+            state.setRemovalPending(seat, isRemovalPending(seat));
+            if (seat < currentSeat && roundCards[seat] != null) {
+                state.setPlayedCard(seat, roundCards[seat].getIndex());
+            }
+
+            Deck deck = player.getDeck();
+            List<Card> hand = deck.getHand();
+            for (int i = 0; i < hand.size(); i++) {
+                int card = hand.get(i).getIndex();
+                state.setHandCount(seat, card, state.getHandCount(seat, card) + 1);
+            }
+            List<Card> drawPile = deck.getDrawPile();
+            for (int i = 0; i < drawPile.size(); i++) {
+                int card = drawPile.get(i).getIndex();
+                state.setDrawCount(seat, card, state.getDrawCount(seat, card) + 1);
+            }
+            List<Card> discardPile = deck.getDiscardPile();
+            for (int i = 0; i < discardPile.size(); i++) {
+                int card = discardPile.get(i).getIndex();
+                state.setDiscardCount(seat, card, state.getDiscardCount(seat, card) + 1);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Scores the cards played so far this round, without resolving the obstacle. Seats
+     * that have not played yet or skipped contribute nothing. The totals can then be read
+     * from the {@link #getResolver() resolver}.
+     *
+     * @return the damage the players would take, or 0 if the obstacle would be overcome
+     */
+    public int scoreRound() {
+        return resolver.resolve(currentObstacle, roundCards, characters, players.size());
+    }
+
+    /**
+     * Gets the resolver, which holds the totals of the last resolution or scoring.
+     *
+     * @return the resolver
+     */
+    public ObstacleResolver getResolver() {
+        return resolver;
+    }
+
+    /**
+     * Gets the players, in seat order.
+     *
+     * @return the players
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the outcome of the game.
+     *
+     * @return the outcome, or null if the game is not over
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the current time loop, starting at 1.
+     *
+     * @return the loop number
+     */
+    public int getLoop() {
+        return loop;
+    }
+
+    /**
+     * Gets the most obstacles encountered in an earlier loop, which the current loop
+     * has to exceed.
+     *
+     * @return the maximum number of obstacles passed
+     */
+    public int getMaxObstaclesPassed() {
+        return maxObstaclesPassed;
+    }
+
+    /**
+     * Gets the number of obstacles encountered in the current loop, overcome or not.
+     *
+     * @return the number of obstacles encountered
+     */
+    public int getObstaclesEncountered() {
+        return obstaclesEncountered;
+    }
+
+    /**
+     * Gets the number of obstacles overcome in the current loop.
+     *
+     * @return the number of successful obstacles
+     */
+    public int getSuccessfulObstacles() {
+        return successfulObstacles;
+    }
+
+    /**
+     * Gets the number of obstacles overcome in all loops of the game.
+     *
+     * @return the number of obstacles overcome
+     */
+    public int getObstaclesOvercome() {
+        return obstaclesOvercome;
+    }
+
+    /**
+     * Gets the obstacles of a loop in the order they are drawn.
+     *
+     * @return the obstacle sequence
+     */
+    public List<ObstacleCard> getObstacleSequence() {
+        return Collections.unmodifiableList(originalObstacleOrder);
+    }
+
+    /**
+     * Gets the obstacle of the current or last round.
+     *
+     * @return the obstacle, or null if none has been drawn or the deck is exhausted
+     */
+    public ObstacleCard getCurrentObstacle() {
+        return currentObstacle;
+    }
+
+    /**
+     * Gets the seat whose turn it is. After the last seat has played this is the number of seats.
+     *
+     * @return the current seat
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Checks if a seat has taken its turn this round.
+     *
+     * @param seat the seat
+     * @return true if the seat has played a card or skipped
+     */
+    public boolean hasPlayed(int seat) {
+        return seat < currentSeat;
+    }
+
+    /**
+     * Gets the card a seat played this round.
+     *
+     * @param seat the seat
+     * @return the card, or null if the seat skipped or has not played yet
+     */
+    public Card getPlayedCard(int seat) {
+        return roundCards[seat];
+    }
+
+    /**
+     * Checks if a seat still has to remove a card before the next loop is dealt.
+     *
+     * @param seat the seat
+     * @return true if the seat's removal is pending
+     */
+    public boolean isRemovalPending(int seat) {
+        return phase == GamePhase.CARD_REMOVAL && removalPending[seat];
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleResult;
+import com.vibeloop.game.model.Player;
+
+/**
+ * Observes a {@link GameEngine}. Listeners are called on the thread driving the engine,
+ * after the state they report has been applied. Every method does nothing by default.
+ */
+public interface GameListener {
+    /**
+     * Called when the engine enters a phase.
+     *
+     * @param phase the new phase
+     */
+    default void phaseChanged(GamePhase phase) {
+    }
+
+    /**
+     * Called when the players have been healed and dealt a new hand, at the start of the
+     * game and of every time loop.
+     */
+    default void handsDealt() {
+    }
+
+    /**
+     * Called when an obstacle is drawn.
+     *
+     * @param obstacle the obstacle the players face
+     */
+    default void obstacleDrawn(ObstacleCard obstacle) {
+    }
+
+    /**
+     * Called when a seat's turn begins.
+     *
+     * @param seat the seat to play
+     */
+    default void turnStarted(int seat) {
+    }
+
+    /**
+     * Called when a seat has played a card or skipped.
+     *
+     * @param player the player of the seat
+     * @param card the card played, or null if the seat skipped
+     */
+    default void cardPlayed(Player player, Card card) {
+    }
+
+    /**
+     * Called when the obstacle has been resolved and any damage applied.
+     *
+     * @param result the result of the encounter
+     * @param damage the damage the players took, 0 if they overcame the obstacle
+     */
+    default void obstacleResolved(ObstacleResult result, int damage) {
+    }
+
+    /**
+     * Called when a player is awarded a card, which goes to their discard pile.
+     *
+     * @param player the player
+     * @param card the awarded card
+     */
+    default void cardAwarded(Player player, Card card) {
+    }
+
+    /**
+     * Called when a new time loop begins, before the seats remove cards.
+     *
+     * @param loop the number of the new loop
+     */
+    default void timeLoopStarted(int loop) {
+    }
+
+    /**
+     * Called when a player removed a card from their deck.
+     *
+     * @param player the player
+     * @param card the removed card
+     */
+    default void cardRemoved(Player player, Card card) {
+    }
+
+    /**
+     * Called when the game ends.
+     *
+     * @param outcome the outcome of the game
+     */
+    default void gameOver(GameOutcome outcome) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.vibeloop.game.engine;
+
+/**
+ * The ways a game can end.
+ */
+public enum GameOutcome {
+    /**
+     * The obstacle deck was cleared in the first loop, or in a later loop that got
+     * further than the previous one.
+     */
+    VICTORY("Victory"),
+
+    /**
+     * A loop failed to encounter more obstacles than the previous loop and the time
+     * loop collapsed.
+     */
+    LOOP_COLLAPSE("Time loop collapse"),
+
+    /**
+     * No obstacle was overcome in the first loop.
+     */
+    FIRST_LOOP_WIPEOUT("Failed all objectives in the first loop");
+
+    private final String description;
+
+    GameOutcome(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Gets a human-readable description of the outcome.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,60 @@
+package com.vibeloop.game.engine;
+
+/**
+ * The phases of a game run by the {@link GameEngine}.
+ *
+ * In the play and card removal phases the engine waits for commands from the seats; it
+ * advances through the other phases by itself when it is stepped.
+ */
+public enum GamePhase {
+    /**
+     * The next obstacle is drawn, or the loop ends if the obstacle deck is exhausted.
+     */
+    DRAW(false),
+
+    /**
+     * The seats take their turns in order, each playing a card or skipping.
+     */
+    PLAY(true),
+
+    /**
+     * The played cards are scored against the obstacle and a failure damages the players.
+     */
+    RESOLVE(false),
+
+    /**
+     * An overcome obstacle awards cards: one to a random seat, or one to every seat for the finale.
+     */
+    REWARD(false),
+
+    /**
+     * A player was defeated; unless the loop got no further than the previous one, the
+     * time loop begins with the obstacles in their original order.
+     */
+    LOOP_RESET(false),
+
+    /**
+     * Each seat removes one card from its deck before the next loop is dealt.
+     */
+    CARD_REMOVAL(true),
+
+    /**
+     * The game has ended with an outcome.
+     */
+    GAME_OVER(false);
+
+    private final boolean awaitingCommand;
+
+    GamePhase(boolean awaitingCommand) {
+        this.awaitingCommand = awaitingCommand;
+    }
+
+    /**
+     * Checks if the engine waits for commands in this phase rather than advancing by itself.
+     *
+     * @return true if the phase needs commands from the seats
+     */
+    public boolean isAwaitingCommand() {
+        return awaitingCommand;
+    }
+}
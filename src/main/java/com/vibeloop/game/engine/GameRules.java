@@ -0,0 +1,57 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Player;
+
+import java.util.List;
+
+/**
+ * Game rules shared by the game screen and the headless simulator.
+ */
+public final class GameRules {
+    /**
+     * The number of cards each player draws at the start of a loop.
+     */
+    public static final int HAND_SIZE = 3;
+
+    private GameRules() {
+    }
+
+    /**
+     * Splits damage equally among players. The remainder goes one point at a time
+     * to the players at the start of the list.
+     *
+     * @param players the players taking damage
+     * @param totalDamage the total damage to distribute
+     * @return true if any player was defeated
+     */
+    public static boolean distributeDamage(List<Player> players, int totalDamage) {
+        int playersCount = players.size();
+        int damagePerPlayer = totalDamage / playersCount;
+        int remainingDamage = totalDamage % playersCount;
+
+        boolean anyPlayerDefeated = false;
+        for (int i = 0; i < playersCount; i++) {
+            Player player = players.get(i);
+            player.takeDamage(i < remainingDamage ? damagePerPlayer + 1 : damagePerPlayer);
+            if (player.isDefeated()) {
+                anyPlayerDefeated = true;
+            }
+        }
+        return anyPlayerDefeated;
+    }
+
+    /**
+     * Checks if any player is defeated.
+     *
+     * @param players the players to check
+     * @return true if any player is defeated, false otherwise
+     */
+    public static boolean isAnyPlayerDefeated(List<Player> players) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).isDefeated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
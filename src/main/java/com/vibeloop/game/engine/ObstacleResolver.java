@@ -0,0 +1,218 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleType;
+import com.vibeloop.game.model.Stat;
+
+/**
+ * Resolves obstacles against the cards played in a round, independent of the UI.
+ *
+ * Regular obstacles compare the total skill of the played cards against the obstacle's
+ * difficulty. The finale compares the environment, hazard and barrier totals against
+ * their thresholds. Card contributions are looked up in a {@link ContributionTable}; the
+ * static helpers compute them from the rules and are used to build the table. The totals
+ * of the last resolution are kept in fields so a round can
+ * be scored without allocating; a resolver is therefore not thread-safe and each thread
+ * should use its own instance.
+ */
+public class ObstacleResolver {
+    private static final int ENVIRONMENT = ObstacleType.ENVIRONMENT.getMask();
+    private static final int HAZARD = ObstacleType.HAZARD.getMask();
+    private static final int BARRIER = ObstacleType.BARRIER.getMask();
+
+    // Damage taken per unmet finale requirement
+    private static final int FINALE_DAMAGE_PER_REQUIREMENT = 2;
+
+    private final ContributionTable contributionTable;
+
+    private int totalSkill;
+    private int environmentTotal;
+    private int hazardTotal;
+    private int barrierTotal;
+    private boolean environmentMet;
+    private boolean hazardMet;
+    private boolean barrierMet;
+
+    public ObstacleResolver(ContributionTable contributionTable) {
+        this.contributionTable = contributionTable;
+    }
+
+    /**
+     * Resolves an obstacle against the cards played in a round.
+     *
+     * @param obstacle the obstacle being resolved
+     * @param cards the card played by each seat, or null for a seat that skipped
+     * @param characters the character of each seat
+     * @param count the number of seats to consider
+     * @return the damage the players take, or 0 if the obstacle was overcome
+     */
+    public int resolve(ObstacleCard obstacle, Card[] cards, Character[] characters, int count) {
+        if (obstacle.isFinale()) {
+            return resolveFinale(obstacle, cards, characters, count);
+        }
+        return resolveRegular(obstacle, cards, characters, count);
+    }
+
+    private int resolveRegular(ObstacleCard obstacle, Card[] cards, Character[] characters, int count) {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            Card card = cards[i];
+            if (card != null) {
+                total += contributionTable.getContribution(characters[i], card, obstacle);
+            }
+        }
+
+        totalSkill = total;
+        environmentTotal = 0;
+        hazardTotal = 0;
+        barrierTotal = 0;
+
+        int difficulty = obstacle.getDifficulty();
+        return total >= difficulty ? 0 : difficulty - total;
+    }
+
+    private int resolveFinale(ObstacleCard obstacle, Card[] cards, Character[] characters, int count) {
+        int environment = 0;
+        int hazard = 0;
+        int barrier = 0;
+
+        for (int i = 0; i < count; i++) {
+            Card card = cards[i];
+            if (card == null) {
+                continue;
+            }
+
+            // A card adds its contribution to every finale requirement it is compatible with
+            int contribution = contributionTable.getContribution(characters[i], card, obstacle);
+            int typeMask = card.getCompatibleTypeMask();
+            if ((typeMask & ENVIRONMENT) != 0) {
+                environment += contribution;
+            }
+            if ((typeMask & HAZARD) != 0) {
+                hazard += contribution;
+            }
+            if ((typeMask & BARRIER) != 0) {
+                barrier += contribution;
+            }
+        }
+
+        totalSkill = environment + hazard + barrier;
+        environmentTotal = environment;
+        hazardTotal = hazard;
+        barrierTotal = barrier;
+        environmentMet = environment >= obstacle.getEnvironmentRequired();
+        hazardMet = hazard >= obstacle.getHazardRequired();
+        barrierMet = barrier >= obstacle.getBarrierRequired();
+
+        int unmetRequirements = (environmentMet ? 0 : 1) + (hazardMet ? 0 : 1) + (barrierMet ? 0 : 1);
+        return unmetRequirements * FINALE_DAMAGE_PER_REQUIREMENT;
+    }
+
+    /**
+     * Gets the contribution of a card played against a regular obstacle.
+     * Incompatible cards contribute nothing, cards matching a required skill contribute
+     * the character's value for that skill, and any other card contributes 1.
+     *
+     * @param obstacle the regular obstacle
+     * @param card the card played
+     * @param character the character playing the card
+     * @return the card's contribution to the total skill
+     */
+    public static int getRegularContribution(ObstacleCard obstacle, Card card, Character character) {
+        if (!card.isCompatibleWith(obstacle.getObstacleType())) {
+            return 0;
+        }
+        // Only known stats can match a required skill
+        return obstacle.requiresSkill(card.getStatType()) ? character.getStat(card.getStatType()) : 1;
+    }
+
+    /**
+     * Gets the contribution of a card played against the finale, which is the
+     * character's value for the card's stat regardless of the required skills.
+     *
+     * @param card the card played
+     * @param character the character playing the card
+     * @return the card's contribution to each compatible finale requirement
+     */
+    public static int getFinaleContribution(Card card, Character character) {
+        Stat stat = card.getStatType();
+        return stat != null ? character.getStat(stat) : 1;
+    }
+
+    /**
+     * Checks whether a card's stat is one of the obstacle's required skills.
+     *
+     * @param obstacle the obstacle
+     * @param card the card
+     * @return true if the card's stat matches a required skill
+     */
+    public static boolean matchesRequiredSkill(ObstacleCard obstacle, Card card) {
+        return obstacle.requiresSkill(card.getStatType());
+    }
+
+    /**
+     * Gets the total skill of the last resolution. For the finale this is the sum
+     * of the environment, hazard and barrier totals.
+     *
+     * @return the total skill
+     */
+    public int getTotalSkill() {
+        return totalSkill;
+    }
+
+    /**
+     * Gets the environment total of the last finale resolution.
+     *
+     * @return the environment total
+     */
+    public int getEnvironmentTotal() {
+        return environmentTotal;
+    }
+
+    /**
+     * Gets the hazard total of the last finale resolution.
+     *
+     * @return the hazard total
+     */
+    public int getHazardTotal() {
+        return hazardTotal;
+    }
+
+    /**
+     * Gets the barrier total of the last finale resolution.
+     *
+     * @return the barrier total
+     */
+    public int getBarrierTotal() {
+        return barrierTotal;
+    }
+
+    /**
+     * Checks if the environment requirement was met in the last finale resolution.
+     *
+     * @return true if the environment requirement was met
+     */
+    public boolean isEnvironmentMet() {
+        return environmentMet;
+    }
+
+    /**
+     * Checks if the hazard requirement was met in the last finale resolution.
+     *
+     * @return true if the hazard requirement was met
+     */
+    public boolean isHazardMet() {
+        return hazardMet;
+    }
+
+    /**
+     * Checks if the barrier requirement was met in the last finale resolution.
+     *
+     * @return true if the barrier requirement was met
+     */
+    public boolean isBarrierMet() {
+        return barrierMet;
+    }
+}
@@ -0,0 +1,609 @@
+package com.vibeloop.game.engine;
+
+import com.vibeloop.game.model.GameRandom;
+
+import java.util.Arrays;
+
+/**
+ * Canonical packed form of a game's state, cheap to copy, hash and compare.
+ *
+ * The state is stored in an array of 64-bit words. The first word holds the phase, the
+ * current seat, the pending card removals, the position in the obstacle sequence, the
+ * loop and the outcome; the second the card played, the health and the character of
+ * each of up to {@link #MAX_SEATS} seats, health as a nibble. The obstacle sequence
+ * follows, a byte per obstacle, and then for each seat the hand as two-bit counts per
+ * card id and the draw and discard piles as four-bit counts per card id. The piles are
+ * kept as counts, so two states that only differ in the order of a draw pile are the same
+ * state, as they are to the players, who cannot see it.
+ *
+ * The state keeps a Zobrist hash over the nibbles of its words, which is updated with
+ * every change of a field, so drawing, playing, damage and rewards only cost a few
+ * operations. The Zobrist key of a nibble value is derived from its position and value
+ * by the same mixer as {@link GameRandom#seedFor(long, long)} instead of being looked up
+ * in a table, so the keys are the same in every run and a hash can be compared across
+ * processes, e.g. to verify a replay. Nibbles that are zero do not contribute to the hash.
+ *
+ * The fields have fixed widths, so a state only fits if it stays within the limits
+ * below; {@link GameEngine#canPack()} checks a game against them. Setting a value that
+ * does not fit throws an {@link IllegalArgumentException}.
+ *
+ * A packed state is not thread-safe; it can be {@link #copy() copied} to other threads.
+ */
+public final class PackedGameState {
+    /**
+     * The largest number of seats a state can hold.
+     */
+    public static final int MAX_SEATS = 4;
+
+    /**
+     * The largest number of cards in the card registry.
+     */
+    public static final int MAX_CARDS = 0xFF;
+
+    /**
+     * The largest number of obstacles, both in the registry and in the sequence.
+     */
+    public static final int MAX_OBSTACLES = 0xFF;
+
+    /**
+     * The largest number of characters.
+     */
+    public static final int MAX_CHARACTERS = 0x10;
+
+    /**
+     * The most health a seat can have.
+     */
+    public static final int MAX_HEALTH = 0xF;
+
+    /**
+     * The most copies of a card a hand can hold.
+     */
+    public static final int MAX_HAND_COPIES = 3;
+
+    /**
+     * The most copies of a card a draw or discard pile can hold.
+     */
+    public static final int MAX_PILE_COPIES = 0xF;
+
+    /**
+     * The highest loop number.
+     */
+    public static final int MAX_LOOP = 0xFFFF;
+
+    // Seed of the Zobrist keys; changing it changes every hash
+    private static final long ZOBRIST_SEED = 0x5642_4C6F_6F70_5A62L;
+
+    private static final GamePhase[] PHASES = GamePhase.values();
+    private static final GameOutcome[] OUTCOMES = GameOutcome.values();
+
+    // Fields of the first word
+    private static final int PHASE_SHIFT = 0;
+    private static final int CURRENT_SEAT_SHIFT = 4;
+    private static final int REMOVALS_SHIFT = 8;
+    private static final int OBSTACLE_INDEX_SHIFT = 12;
+    private static final int SUCCESSFUL_SHIFT = 20;
+    private static final int MAX_PASSED_SHIFT = 28;
+    private static final int LOOP_SHIFT = 36;
+    private static final int OUTCOME_SHIFT = 52;
+
+    // Fields of the second word, per seat
+    private static final int PLAYED_SHIFT = 0;
+    private static final int HEALTH_SHIFT = 32;
+    private static final int CHARACTER_SHIFT = 48;
+
+    private static final int NIBBLE = 0xF;
+    private static final int BYTE = 0xFF;
+    private static final int COUNT_BITS = 4;
+    private static final int HAND_COUNT_BITS = 2;
+
+    private static final long LOW_BITS = 0x5555_5555_5555_5555L;
+    private static final long LOW_NIBBLES = 0x0F0F_0F0F_0F0F_0F0FL;
+    private static final long BYTE_SUM = 0x0101_0101_0101_0101L;
+
+    private final int seats;
+    private final int cardCount;
+    private final int sequenceLength;
+    private final int handWords;
+    private final int pileWords;
+    private final int seatWords;
+    private final int firstSeatWord;
+    private final long[] words;
+    private long hash;
+
+    /**
+     * Creates an empty state: all counts, health and positions are zero.
+     *
+     * @param seats the number of seats
+     * @param cardCount the number of cards in the card registry
+     * @param sequenceLength the number of obstacles in the obstacle sequence
+     * @throws IllegalArgumentException if the layout exceeds the limits
+     */
+    public PackedGameState(int seats, int cardCount, int sequenceLength) {
+        if (seats < 1 || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("A packed state holds 1 to " + MAX_SEATS + " seats, not " + seats);
+        }
+        if (cardCount > MAX_CARDS) {
+            throw new IllegalArgumentException("Too many cards to pack: " + cardCount);
+        }
+        if (sequenceLength > MAX_OBSTACLES) {
+            throw new IllegalArgumentException("Too many obstacles to pack: " + sequenceLength);
+        }
+        this.seats = seats;
+        this.cardCount = cardCount;
+        this.sequenceLength = sequenceLength;
+        this.handWords = (cardCount * HAND_COUNT_BITS + Long.SIZE - 1) / Long.SIZE;
+        this.pileWords = (cardCount * COUNT_BITS + Long.SIZE - 1) / Long.SIZE;
+        this.seatWords = handWords + 2 * pileWords;
+        this.firstSeatWord = 2 + (sequenceLength + Long.BYTES - 1) / Long.BYTES;
+        this.words = new long[firstSeatWord + seats * seatWords];
+    }
+
+    private PackedGameState(PackedGameState state) {
+        this.seats = state.seats;
+        this.cardCount = state.cardCount;
+        this.sequenceLength = state.sequenceLength;
+        this.handWords = state.handWords;
+        this.pileWords = state.pileWords;
+        this.seatWords = state.seatWords;
+        this.firstSeatWord = state.firstSeatWord;
+        this.words = state.words.clone();
+        this.hash = state.hash;
+    }
+
+    /**
+     * Creates an independent copy of the state.
+     *
+     * @return the copy
+     */
+    public PackedGameState copy() {
+        return new PackedGameState(this);
+    }
+
+    /**
+     * Overwrites this state with another one of the same layout, without allocating.
+     *
+     * @param state the state to copy
+     * @throws IllegalArgumentException if the states have different layouts
+     */
+    public void copyFrom(PackedGameState state) {
+        if (!sameLayout(state)) {
+            throw new IllegalArgumentException("Cannot copy a state with a different layout");
+        }
+        System.arraycopy(state.words, 0, words, 0, words.length);
+        hash = state.hash;
+    }
+
+    /**
+     * Gets the Zobrist hash of the state.
+     *
+     * @return the hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Computes the Zobrist hash from scratch, e.g. to check the incremental one.
+     *
+     * @return the hash
+     */
+    public long computeHash() {
+        long h = 0;
+        for (int word = 0; word < words.length; word++) {
+            for (int shift = 0; shift < Long.SIZE; shift += COUNT_BITS) {
+                h ^= key(word, shift, (int) (words[word] >>> shift) & NIBBLE);
+            }
+        }
+        return h;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    public int getSequenceLength() {
+        return sequenceLength;
+    }
+
+    public GamePhase getPhase() {
+        return PHASES[get(0, PHASE_SHIFT, NIBBLE)];
+    }
+
+    public void setPhase(GamePhase phase) {
+        set(0, PHASE_SHIFT, NIBBLE, phase.ordinal());
+    }
+
+    /**
+     * Gets the outcome of the game.
+     *
+     * @return the outcome, or null if the game is not over
+     */
+    public GameOutcome getOutcome() {
+        int value = get(0, OUTCOME_SHIFT, NIBBLE);
+        return value == 0 ? null : OUTCOMES[value - 1];
+    }
+
+    public void setOutcome(GameOutcome outcome) {
+        set(0, OUTCOME_SHIFT, NIBBLE, outcome == null ? 0 : outcome.ordinal() + 1);
+    }
+
+    public int getLoop() {
+        return get(0, LOOP_SHIFT, 0xFFFF);
+    }
+
+    public void setLoop(int loop) {
+        set(0, LOOP_SHIFT, 0xFFFF, loop);
+    }
+
+    /**
+     * Gets the number of obstacles encountered in the current loop, which is the position
+     * of the current or next obstacle in the sequence.
+     *
+     * @return the obstacle index
+     */
+    public int getObstacleIndex() {
+        return get(0, OBSTACLE_INDEX_SHIFT, BYTE);
+    }
+
+    public void setObstacleIndex(int obstacleIndex) {
+        set(0, OBSTACLE_INDEX_SHIFT, BYTE, obstacleIndex);
+    }
+
+    public int getSuccessfulObstacles() {
+        return get(0, SUCCESSFUL_SHIFT, BYTE);
+    }
+
+    public void setSuccessfulObstacles(int successfulObstacles) {
+        set(0, SUCCESSFUL_SHIFT, BYTE, successfulObstacles);
+    }
+
+    public int getMaxObstaclesPassed() {
+        return get(0, MAX_PASSED_SHIFT, BYTE);
+    }
+
+    public void setMaxObstaclesPassed(int maxObstaclesPassed) {
+        set(0, MAX_PASSED_SHIFT, BYTE, maxObstaclesPassed);
+    }
+
+    public int getCurrentSeat() {
+        return get(0, CURRENT_SEAT_SHIFT, NIBBLE);
+    }
+
+    public void setCurrentSeat(int seat) {
+        set(0, CURRENT_SEAT_SHIFT, NIBBLE, seat);
+    }
+
+    public boolean isRemovalPending(int seat) {
+        return get(0, REMOVALS_SHIFT + checkSeat(seat), 1) != 0;
+    }
+
+    public void setRemovalPending(int seat, boolean pending) {
+        set(0, REMOVALS_SHIFT + checkSeat(seat), 1, pending ? 1 : 0);
+    }
+
+    /**
+     * Gets the card a seat played this round.
+     *
+     * @param seat the seat
+     * @return the card's registry index, or -1 if the seat skipped or has not played yet
+     */
+    public int getPlayedCard(int seat) {
+        return get(1, PLAYED_SHIFT + checkSeat(seat) * Byte.SIZE, BYTE) - 1;
+    }
+
+    /**
+     * Sets the card a seat played this round.
+     *
+     * @param seat the seat
+     * @param card the card's registry index, or -1 for a skip
+     */
+    public void setPlayedCard(int seat, int card) {
+        set(1, PLAYED_SHIFT + checkSeat(seat) * Byte.SIZE, BYTE, card + 1);
+    }
+
+    public int getHealth(int seat) {
+        return get(1, HEALTH_SHIFT + checkSeat(seat) * COUNT_BITS, NIBBLE);
+    }
+
+    public void setHealth(int seat, int health) {
+        set(1, HEALTH_SHIFT + checkSeat(seat) * COUNT_BITS, NIBBLE, health);
+    }
+
+    /**
+     * Gets the character of a seat.
+     *
+     * @param seat the seat
+     * @return the character's index
+     */
+    public int getCharacter(int seat) {
+        return get(1, CHARACTER_SHIFT + checkSeat(seat) * COUNT_BITS, NIBBLE);
+    }
+
+    public void setCharacter(int seat, int character) {
+        set(1, CHARACTER_SHIFT + checkSeat(seat) * COUNT_BITS, NIBBLE, character);
+    }
+
+    /**
+     * Gets an obstacle of the sequence.
+     *
+     * @param position the position in the sequence
+     * @return the obstacle's index, or -1 if it is not set
+     */
+    public int getSequenceObstacle(int position) {
+        return get(sequenceWord(position), sequenceShift(position), BYTE) - 1;
+    }
+
+    public void setSequenceObstacle(int position, int obstacle) {
+        set(sequenceWord(position), sequenceShift(position), BYTE, obstacle + 1);
+    }
+
+    public int getHandCount(int seat, int card) {
+        int bit = checkCard(card) * HAND_COUNT_BITS;
+        return get(seatWord(seat) + bit / Long.SIZE, bit % Long.SIZE, 3);
+    }
+
+    public void setHandCount(int seat, int card, int count) {
+        int bit = checkCard(card) * HAND_COUNT_BITS;
+        set(seatWord(seat) + bit / Long.SIZE, bit % Long.SIZE, 3, count);
+    }
+
+    public int getDrawCount(int seat, int card) {
+        int bit = checkCard(card) * COUNT_BITS;
+        return get(seatWord(seat) + handWords + bit / Long.SIZE, bit % Long.SIZE, NIBBLE);
+    }
+
+    public void setDrawCount(int seat, int card, int count) {
+        int bit = checkCard(card) * COUNT_BITS;
+        set(seatWord(seat) + handWords + bit / Long.SIZE, bit % Long.SIZE, NIBBLE, count);
+    }
+
+    public int getDiscardCount(int seat, int card) {
+        int bit = checkCard(card) * COUNT_BITS;
+        return get(seatWord(seat) + handWords + pileWords + bit / Long.SIZE, bit % Long.SIZE, NIBBLE);
+    }
+
+    public void setDiscardCount(int seat, int card, int count) {
+        int bit = checkCard(card) * COUNT_BITS;
+        set(seatWord(seat) + handWords + pileWords + bit / Long.SIZE, bit % Long.SIZE, NIBBLE, count);
+    }
+
+    /**
+     * Gets the copies of a card in a seat's deck, counting all piles.
+     *
+     * @param seat the seat
+     * @param card the card's registry index
+     * @return the number of copies
+     */
+    public int getDeckCount(int seat, int card) {
+        return getHandCount(seat, card) + getDrawCount(seat, card) + getDiscardCount(seat, card);
+    }
+
+    /**
+     * Gets the number of cards in a seat's hand.
+     *
+     * @param seat the seat
+     * @return the hand size
+     */
+    public int getHandSize(int seat) {
+        int size = 0;
+        int first = seatWord(seat);
+        for (int word = first; word < first + handWords; word++) {
+            // Each two-bit count adds its low bit once and its high bit twice
+            size += Long.bitCount(words[word] & LOW_BITS) + 2 * Long.bitCount(words[word] & ~LOW_BITS);
+        }
+        return size;
+    }
+
+    /**
+     * Gets the number of cards in a seat's draw pile.
+     *
+     * @param seat the seat
+     * @return the draw pile size
+     */
+    public int getDrawPileSize(int seat) {
+        return sumNibbles(seatWord(seat) + handWords);
+    }
+
+    /**
+     * Gets the number of cards in a seat's discard pile.
+     *
+     * @param seat the seat
+     * @return the discard pile size
+     */
+    public int getDiscardPileSize(int seat) {
+        return sumNibbles(seatWord(seat) + handWords + pileWords);
+    }
+
+    /**
+     * Moves a card from a seat's draw pile to its hand.
+     *
+     * @param seat the seat
+     * @param card the card's registry index
+     * @throws IllegalStateException if the draw pile does not hold the card
+     */
+    public void drawCard(int seat, int card) {
+        int drawCount = getDrawCount(seat, card);
+        if (drawCount == 0) {
+            throw new IllegalStateException("The draw pile of seat " + seat + " does not hold card " + card);
+        }
+        setDrawCount(seat, card, drawCount - 1);
+        setHandCount(seat, card, getHandCount(seat, card) + 1);
+    }
+
+    /**
+     * Plays a card of the current seat: the card moves from the hand to the discard pile,
+     * is recorded as the seat's play and the turn passes to the next seat.
+     *
+     * @param card the card's registry index
+     * @throws IllegalStateException if the hand does not hold the card
+     */
+    public void playCard(int card) {
+        int seat = getCurrentSeat();
+        int handCount = getHandCount(seat, card);
+        if (handCount == 0) {
+            throw new IllegalStateException("The hand of seat " + seat + " does not hold card " + card);
+        }
+        setHandCount(seat, card, handCount - 1);
+        setDiscardCount(seat, card, getDiscardCount(seat, card) + 1);
+        setPlayedCard(seat, card);
+        setCurrentSeat(seat + 1);
+    }
+
+    /**
+     * Skips the turn of the current seat. A card the seat draws for skipping is drawn
+     * with {@link #drawCard(int, int)}.
+     */
+    public void skip() {
+        int seat = getCurrentSeat();
+        setPlayedCard(seat, -1);
+        setCurrentSeat(seat + 1);
+    }
+
+    /**
+     * Clears the plays of the round and gives the turn to the first seat.
+     */
+    public void clearRound() {
+        for (int seat = 0; seat < seats; seat++) {
+            setPlayedCard(seat, -1);
+        }
+        setCurrentSeat(0);
+    }
+
+    /**
+     * Reduces a seat's health, not below zero.
+     *
+     * @param seat the seat
+     * @param amount the damage
+     */
+    public void takeDamage(int seat, int amount) {
+        setHealth(seat, Math.max(0, getHealth(seat) - amount));
+    }
+
+    /**
+     * Adds an awarded card to a seat's discard pile.
+     *
+     * @param seat the seat
+     * @param card the card's registry index
+     */
+    public void awardCard(int seat, int card) {
+        setDiscardCount(seat, card, getDiscardCount(seat, card) + 1);
+    }
+
+    /**
+     * Removes a copy of a card from a seat's deck, from the first pile holding it,
+     * looking at the discard pile, then the hand, then the draw pile, as the deck does.
+     *
+     * @param seat the seat
+     * @param card the card's registry index
+     * @return true if the card was removed, false if the deck does not hold it
+     */
+    public boolean removeCard(int seat, int card) {
+        int count = getDiscardCount(seat, card);
+        if (count > 0) {
+            setDiscardCount(seat, card, count - 1);
+            return true;
+        }
+        count = getHandCount(seat, card);
+        if (count > 0) {
+            setHandCount(seat, card, count - 1);
+            return true;
+        }
+        count = getDrawCount(seat, card);
+        if (count > 0) {
+            setDrawCount(seat, card, count - 1);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedGameState)) {
+            return false;
+        }
+        PackedGameState state = (PackedGameState) o;
+        return hash == state.hash && sameLayout(state) && Arrays.equals(words, state.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private boolean sameLayout(PackedGameState state) {
+        return seats == state.seats && cardCount == state.cardCount && sequenceLength == state.sequenceLength;
+    }
+
+    private int get(int word, int shift, int mask) {
+        return (int) (words[word] >>> shift) & mask;
+    }
+
+    /**
+     * Sets a field, updating the hash by the keys of its old and new value.
+     */
+    private void set(int word, int shift, int mask, int value) {
+        if (value < 0 || value > mask) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in its field");
+        }
+        long oldWord = words[word];
+        long newWord = oldWord & ~((long) mask << shift) | (long) value << shift;
+        if (newWord == oldWord) {
+            return;
+        }
+        words[word] = newWord;
+
+        // Fields narrower than a nibble share their nibble's key with their neighbours
+        for (int s = shift & -COUNT_BITS; s < shift + Integer.bitCount(mask); s += COUNT_BITS) {
+            hash ^= key(word, s, (int) (oldWord >>> s) & NIBBLE) ^ key(word, s, (int) (newWord >>> s) & NIBBLE);
+        }
+    }
+
+    private static long key(int word, int shift, int nibble) {
+        return nibble == 0 ? 0 : GameRandom.seedFor(ZOBRIST_SEED, (long) (word * Long.SIZE + shift) << COUNT_BITS | nibble);
+    }
+
+    private int sumNibbles(int first) {
+        int size = 0;
+        for (int word = first; word < first + pileWords; word++) {
+            long bytes = (words[word] & LOW_NIBBLES) + ((words[word] >>> COUNT_BITS) & LOW_NIBBLES);
+            size += (int) ((bytes * BYTE_SUM) >>> 56);
+        }
+        return size;
+    }
+
+    private int seatWord(int seat) {
+        return firstSeatWord + checkSeat(seat) * seatWords;
+    }
+
+    private int sequenceWord(int position) {
+        if (position < 0 || position >= sequenceLength) {
+            throw new IndexOutOfBoundsException("No obstacle " + position + " in a sequence of " + sequenceLength);
+        }
+        return 2 + position / Long.BYTES;
+    }
+
+    private static int sequenceShift(int position) {
+        return position % Long.BYTES * Byte.SIZE;
+    }
+
+    private int checkSeat(int seat) {
+        if (seat < 0 || seat >= seats) {
+            throw new IndexOutOfBoundsException("No seat " + seat + " of " + seats);
+        }
+        return seat;
+    }
+
+    private int checkCard(int card) {
+        if (card < 0 || card >= cardCount) {
+            throw new IndexOutOfBoundsException("No card " + card + " of " + cardCount);
+        }
+        return card;
+    }
+}
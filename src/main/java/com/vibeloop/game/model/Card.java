@@ -1,71 +1,121 @@
 package com.vibeloop.game.model;
 
 /**
- * Represents a card in the game.
+ * Represents a card definition in the game.
+ *
+ * Card definitions are immutable and shared: the card service creates one per card id,
+ * and every deck holding that card refers to the same definition by its registry index.
  */
-public class Card {
-    private String id;
-    private String name;
-    private String description;
-    private String stat;
-    private String[] compatibleTypes;
-    private String imagePath;
-    
-    public Card(String id, String name, String description, String stat, String[] compatibleTypes) {
+public final class Card {
+    private final int index;
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String stat;
+    private final String[] compatibleTypes;
+    private final String imagePath;
+
+    // Parsed forms of the stat and compatible types, used by the rules
+    private final Stat statType;
+    private final int compatibleTypeMask;
+
+    public Card(int index, String id, String name, String description, String stat, String[] compatibleTypes,
+                String imagePath) {
+        this.index = index;
         this.id = id;
         this.name = name;
         this.description = description;
         this.stat = stat;
         this.compatibleTypes = compatibleTypes;
-        this.imagePath = "/cards/" + id + ".jpg";
+        this.imagePath = imagePath;
+        this.statType = Stat.fromName(stat);
+        this.compatibleTypeMask = ObstacleType.maskOf(compatibleTypes);
     }
-    
+
+    /**
+     * Gets the index of this card in the card registry.
+     *
+     * @return the registry index
+     */
+    public int getIndex() {
+        return index;
+    }
+
     public String getId() {
         return id;
     }
-    
+
     public String getName() {
         return name;
     }
-    
+
     public String getDescription() {
         return description;
     }
-    
+
     public String getStat() {
         return stat;
     }
-    
+
+    /**
+     * Gets the parsed stat of this card.
+     *
+     * @return the stat, or null if the card's stat is not a known stat
+     */
+    public Stat getStatType() {
+        return statType;
+    }
+
+    /**
+     * Gets the obstacle types this card is compatible with.
+     * The array is shared by every holder of this card and must not be modified.
+     *
+     * @return the compatible obstacle types
+     */
     public String[] getCompatibleTypes() {
         return compatibleTypes;
     }
-    
+
     /**
      * Checks if this card is compatible with the given obstacle type.
-     * 
+     *
      * @param obstacleType the obstacle type to check against
      * @return true if the card is compatible with the obstacle type, false otherwise
      */
     public boolean isCompatibleWithType(String obstacleType) {
-        if (compatibleTypes == null || obstacleType == null) {
-            return false;
-        }
-        
-        for (String type : compatibleTypes) {
-            if (type.equalsIgnoreCase(obstacleType)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return isCompatibleWith(ObstacleType.fromName(obstacleType));
+    }
+
+    /**
+     * Checks if this card is compatible with the given obstacle type.
+     *
+     * @param obstacleType the obstacle type to check against
+     * @return true if the card is compatible with the obstacle type, false otherwise
+     */
+    public boolean isCompatibleWith(ObstacleType obstacleType) {
+        return obstacleType != null && (compatibleTypeMask & obstacleType.getMask()) != 0;
     }
-    
+
+    /**
+     * Gets the mask of the obstacle types this card is compatible with.
+     *
+     * @return the compatible type mask, built from {@link ObstacleType#getMask()}
+     */
+    public int getCompatibleTypeMask() {
+        return compatibleTypeMask;
+    }
+
+    /**
+     * Gets the resource path of this card's art, as resolved by the card service.
+     *
+     * @return the image path, or null if the card has no art and is shown as a placeholder
+     */
     public String getImagePath() {
         return imagePath;
     }
-    
+
     @Override
     public String toString() {
         return name;
     }
-} 
\ No newline at end of file
+}
@@ -2,29 +2,42 @@ package com.vibeloop.game.model;
 
 /**
  * Represents a character in the game with various statistics.
+ *
+ * Characters are immutable, so the content repository can share them between threads.
  */
-public class Character {
-    private String type;
-    private String name;
-    private int strength;
-    private int speed;
-    private int tech;
-    private int health;
-    private String description;
-    private String imagePath;
+public final class Character {
+    private final int index;
+    private final String type;
+    private final String name;
+    // Stat values indexed by Stat ordinal
+    private final int[] stats;
+    private final int health;
+    private final String description;
+    private final String imagePath;
 
-    public Character(String type, String name, int strength, int speed, int tech, int health, String description) {
+    public Character(int index, String type, String name, int strength, int speed, int tech, int health,
+                     String description) {
+        this.index = index;
         this.type = type;
         this.name = name;
-        this.strength = strength;
-        this.speed = speed;
-        this.tech = tech;
+        this.stats = new int[Stat.values().length];
+        this.stats[Stat.STRENGTH.ordinal()] = strength;
+        this.stats[Stat.SPEED.ordinal()] = speed;
+        this.stats[Stat.TECH.ordinal()] = tech;
         this.health = health;
         this.description = description;
         this.imagePath = "/characters/" + type + ".jpg";
     }
 
-    // Getters and setters
+    /**
+     * Gets the index of this character in the character service.
+     *
+     * @return the character index
+     */
+    public int getIndex() {
+        return index;
+    }
+
     public String getType() {
         return type;
     }
@@ -33,20 +46,26 @@ public class Character {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public int getStrength() {
-        return strength;
+        return stats[Stat.STRENGTH.ordinal()];
     }
 
     public int getSpeed() {
-        return speed;
+        return stats[Stat.SPEED.ordinal()];
     }
 
     public int getTech() {
-        return tech;
+        return stats[Stat.TECH.ordinal()];
+    }
+
+    /**
+     * Gets the value of one of the character's stats.
+     *
+     * @param stat the stat
+     * @return the value of the stat
+     */
+    public int getStat(Stat stat) {
+        return stats[stat.ordinal()];
     }
 
     public int getHealth() {
@@ -1,51 +1,130 @@
 package com.vibeloop.game.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Represents a deck of cards.
+ *
+ * Cards are identified by their registry index, and the deck, draw pile, hand and
+ * discard pile are stored as arrays of those ids, so copies of a card share one
+ * definition. Drawing advances a head index into the draw pile, playing swaps the card
+ * out of the (at most a few cards) hand, and shuffling is done in place. The list getters
+ * return live read-only views.
  */
 public class Deck {
-    private List<Card> cards;
-    private List<Card> drawPile;
-    private List<Card> hand;
-    private List<Card> discardPile;
-    
-    public Deck() {
-        cards = new ArrayList<>();
-        drawPile = new ArrayList<>();
-        hand = new ArrayList<>();
-        discardPile = new ArrayList<>();
-    }
-    
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Card definitions by registry index; the piles store indices into this table
+    private Card[] definitions = new Card[INITIAL_CAPACITY];
+
+    private int[] cards = new int[INITIAL_CAPACITY];
+    private int cardCount;
+    private int[] drawPile = new int[INITIAL_CAPACITY];
+    private int drawHead;
+    private int drawTail;
+    private int[] hand = new int[INITIAL_CAPACITY];
+    private int handSize;
+    private int[] discardPile = new int[INITIAL_CAPACITY];
+    private int discardSize;
+
+    private final GameRandom random;
+
+    private final List<Card> cardsView = new PileView() {
+        @Override
+        public Card get(int index) {
+            return definitions[cards[Objects.checkIndex(index, cardCount)]];
+        }
+
+        @Override
+        public int size() {
+            return cardCount;
+        }
+    };
+
+    private final List<Card> drawPileView = new PileView() {
+        @Override
+        public Card get(int index) {
+            return definitions[drawPile[drawHead + Objects.checkIndex(index, drawTail - drawHead)]];
+        }
+
+        @Override
+        public int size() {
+            return drawTail - drawHead;
+        }
+    };
+
+    private final List<Card> handView = new PileView() {
+        @Override
+        public Card get(int index) {
+            return definitions[hand[Objects.checkIndex(index, handSize)]];
+        }
+
+        @Override
+        public int size() {
+            return handSize;
+        }
+    };
+
+    private final List<Card> discardPileView = new PileView() {
+        @Override
+        public Card get(int index) {
+            return definitions[discardPile[Objects.checkIndex(index, discardSize)]];
+        }
+
+        @Override
+        public int size() {
+            return discardSize;
+        }
+    };
+
+    public Deck(GameRandom random) {
+        this.random = random;
+    }
+
     public void addCard(Card card) {
-        cards.add(card);
-        drawPile.add(card);
+        int id = idOf(card);
+        cards = append(cards, cardCount++, id);
+        appendToDrawPile(id);
     }
-    
+
     public void addCards(List<Card> newCards) {
-        cards.addAll(newCards);
-        drawPile.addAll(newCards);
+        for (int i = 0; i < newCards.size(); i++) {
+            addCard(newCards.get(i));
+        }
     }
-    
+
+    /**
+     * Shuffles the draw pile in place.
+     */
     public void shuffle() {
-        Collections.shuffle(drawPile);
+        for (int i = drawTail - 1; i > drawHead; i--) {
+            int j = drawHead + random.nextInt(i - drawHead + 1);
+            int id = drawPile[i];
+            drawPile[i] = drawPile[j];
+            drawPile[j] = id;
+        }
     }
-    
+
     public Card drawCard() {
-        if (drawPile.isEmpty()) {
+        if (drawHead == drawTail) {
             // Don't automatically shuffle the discard pile back into the draw pile
             // Just return null if there are no more cards to draw
             return null;
         }
-        
-        Card drawnCard = drawPile.remove(0);
-        hand.add(drawnCard);
-        return drawnCard;
+
+        int id = drawPile[drawHead++];
+        if (drawHead == drawTail) {
+            drawHead = 0;
+            drawTail = 0;
+        }
+        hand = append(hand, handSize++, id);
+        return definitions[id];
     }
-    
+
     public void drawCards(int count) {
         for (int i = 0; i < count; i++) {
             Card drawnCard = drawCard();
@@ -54,90 +133,171 @@ public class Deck {
             }
         }
     }
-    
+
     public void playCard(Card card) {
-        if (hand.contains(card)) {
-            hand.remove(card);
-            discardPile.add(card);
+        int id = card.getIndex();
+        int index = indexOf(hand, 0, handSize, id);
+        if (index >= 0) {
+            hand[index] = hand[--handSize];
+            discardPile = append(discardPile, discardSize++, id);
         }
     }
-    
+
     public void discardHand() {
-        discardPile.addAll(hand);
-        hand.clear();
-    }
-    
-    private void resetDrawPile() {
-        drawPile.addAll(discardPile);
-        discardPile.clear();
-        shuffle();
+        for (int i = 0; i < handSize; i++) {
+            discardPile = append(discardPile, discardSize++, hand[i]);
+        }
+        handSize = 0;
     }
-    
+
     /**
      * Resets the deck for the time loop mechanic.
      * Moves all cards from hand and discard pile back to the draw pile.
      */
     public void resetDeckForTimeLoop() {
-        // Get the main collection of all remaining cards (after any removals)
-        List<Card> allRemainingCards = new ArrayList<>(cards);
-        
-        // Clear everything
-        drawPile.clear();
-        hand.clear();
-        discardPile.clear();
-        
-        // Put all remaining cards into the draw pile
-        drawPile.addAll(allRemainingCards);
-        
+        // Put all remaining cards (after any removals) into the draw pile
+        if (drawPile.length < cardCount) {
+            drawPile = new int[cards.length];
+        }
+        System.arraycopy(cards, 0, drawPile, 0, cardCount);
+        drawHead = 0;
+        drawTail = cardCount;
+        handSize = 0;
+        discardSize = 0;
+
         // Shuffle the deck
         shuffle();
-        
-        System.out.println("Reset deck complete. Total cards: " + cards.size() + 
-                          ", Draw pile: " + drawPile.size() + 
-                          ", Hand: " + hand.size() + 
-                          ", Discard: " + discardPile.size());
     }
-    
+
+    /**
+     * Creates an independent copy of the deck, with the same cards in the same piles and
+     * order, e.g. for a bot to play out a hypothetical game.
+     *
+     * @param random the random source of the copy
+     * @return the copy
+     */
+    public Deck copy(GameRandom random) {
+        Deck copy = new Deck(random);
+        copy.definitions = definitions.clone();
+        copy.cards = cards.clone();
+        copy.cardCount = cardCount;
+        copy.drawPile = drawPile.clone();
+        copy.drawHead = drawHead;
+        copy.drawTail = drawTail;
+        copy.hand = hand.clone();
+        copy.handSize = handSize;
+        copy.discardPile = discardPile.clone();
+        copy.discardSize = discardSize;
+        return copy;
+    }
+
     public List<Card> getCards() {
-        return Collections.unmodifiableList(cards);
+        return cardsView;
     }
-    
+
     public List<Card> getDrawPile() {
-        return Collections.unmodifiableList(drawPile);
+        return drawPileView;
     }
-    
+
     public List<Card> getHand() {
-        return Collections.unmodifiableList(hand);
+        return handView;
     }
-    
+
     public List<Card> getDiscardPile() {
-        return Collections.unmodifiableList(discardPile);
+        return discardPileView;
     }
-    
+
     /**
      * Adds a card to the deck and discard pile.
-     * 
+     *
      * @param card the card to add
      */
     public void addCardToDiscard(Card card) {
-        cards.add(card);
-        discardPile.add(card);
+        int id = idOf(card);
+        cards = append(cards, cardCount++, id);
+        discardPile = append(discardPile, discardSize++, id);
     }
-    
+
     /**
      * Removes a specific card from the deck completely.
-     * 
+     * One copy is removed from the deck and from the first pile holding it,
+     * looking at the discard pile, then the hand, then the draw pile.
+     *
      * @param card the card to remove
      * @return true if the card was removed, false if it wasn't found
      */
     public boolean removeCard(Card card) {
-        boolean removedFromMain = cards.remove(card);
-        
-        // Also remove from all possible locations
-        boolean removedFromDraw = drawPile.remove(card);
-        boolean removedFromHand = hand.remove(card);
-        boolean removedFromDiscard = discardPile.remove(card);
-        
-        return removedFromMain || removedFromDraw || removedFromHand || removedFromDiscard;
-    }
-} 
\ No newline at end of file
+        int id = card.getIndex();
+        boolean removedFromMain = false;
+        int index = indexOf(cards, 0, cardCount, id);
+        if (index >= 0) {
+            cards[index] = cards[--cardCount];
+            removedFromMain = true;
+        }
+
+        // Also remove it from the pile it is in
+        index = indexOf(discardPile, 0, discardSize, id);
+        if (index >= 0) {
+            discardPile[index] = discardPile[--discardSize];
+            return true;
+        }
+        index = indexOf(hand, 0, handSize, id);
+        if (index >= 0) {
+            hand[index] = hand[--handSize];
+            return true;
+        }
+        index = indexOf(drawPile, drawHead, drawTail, id);
+        if (index >= 0) {
+            drawPile[index] = drawPile[--drawTail];
+            return true;
+        }
+        return removedFromMain;
+    }
+
+    /**
+     * Gets the id of a card, remembering its definition for the pile views.
+     */
+    private int idOf(Card card) {
+        int id = card.getIndex();
+        definitions = ensureCapacity(definitions, id + 1);
+        definitions[id] = card;
+        return id;
+    }
+
+    private void appendToDrawPile(int id) {
+        if (drawTail == drawPile.length && drawHead > 0) {
+            // Reclaim the space of cards already drawn before growing
+            System.arraycopy(drawPile, drawHead, drawPile, 0, drawTail - drawHead);
+            drawTail -= drawHead;
+            drawHead = 0;
+        }
+        drawPile = append(drawPile, drawTail++, id);
+    }
+
+    private static int indexOf(int[] pile, int from, int to, int id) {
+        for (int i = from; i < to; i++) {
+            if (pile[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] append(int[] pile, int size, int id) {
+        if (size == pile.length) {
+            pile = Arrays.copyOf(pile, size * 2);
+        }
+        pile[size] = id;
+        return pile;
+    }
+
+    private static Card[] ensureCapacity(Card[] array, int size) {
+        return size <= array.length ? array : Arrays.copyOf(array, Math.max(size, array.length * 2));
+    }
+
+    /**
+     * Read-only list view over one of the deck's piles.
+     */
+    private abstract static class PileView extends AbstractList<Card> implements RandomAccess {
+    }
+}
@@ -0,0 +1,100 @@
+package com.vibeloop.game.model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded source of randomness for a single game.
+ *
+ * Every shuffle and random draw in a game goes through the game's random source, so a
+ * game can be reproduced from its 64-bit seed. Child sources can be split off for work
+ * that runs on other threads. A game random is not thread-safe; each thread should use
+ * its own instance.
+ */
+public class GameRandom {
+    // Odd constant used to spread consecutive indices over the seed space
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates a random source with an unpredictable seed.
+     *
+     * @return the new random source
+     */
+    public static GameRandom fromEntropy() {
+        return new GameRandom(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Derives the seed of one game in a numbered series of games. The result only
+     * depends on the base seed and the index, so any game in a series can be replayed
+     * on its own.
+     *
+     * @param baseSeed the seed of the series
+     * @param index the index of the game in the series
+     * @return the seed for that game
+     */
+    public static long seedFor(long baseSeed, long index) {
+        long z = baseSeed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the seed this random source was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns a random int between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound the upper bound, which must be positive
+     * @return the random value
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Returns a random long.
+     *
+     * @return the random value
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Shuffles a list in place.
+     *
+     * @param list the list to shuffle
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+
+    /**
+     * Splits off an independent random source, seeded from this one so the child is
+     * reproducible as well.
+     *
+     * @return the child random source
+     */
+    public GameRandom split() {
+        return new GameRandom(random.nextLong());
+    }
+}
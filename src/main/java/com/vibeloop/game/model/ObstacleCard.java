@@ -4,6 +4,7 @@ package com.vibeloop.game.model;
  * Represents an obstacle card in the game that players must overcome.
  */
 public class ObstacleCard {
+    private int index;
     private String id;
     private String name;
     private String description;
@@ -13,13 +14,18 @@ public class ObstacleCard {
     private String imagePath;
     private boolean isFinale;
     
+    // Parsed forms of the type and required skills, used by the rules
+    private ObstacleType obstacleType;
+    private int requiredSkillMask;
+    
     // Special requirements for the finale
     private int environmentRequired;
     private int hazardRequired;
     private int barrierRequired;
     
-    public ObstacleCard(String id, String name, String description, int difficulty, 
+    public ObstacleCard(int index, String id, String name, String description, int difficulty, 
                       String[] requiredSkills, String type) {
+        this.index = index;
         this.id = id;
         this.name = name;
         this.description = description;
@@ -28,6 +34,8 @@ public class ObstacleCard {
         this.type = type;
         this.imagePath = "/obstacles/" + id + ".jpg";
         this.isFinale = "finale".equals(type);
+        this.obstacleType = ObstacleType.fromName(type);
+        this.requiredSkillMask = Stat.maskOf(requiredSkills);
         
         // Default values for finale requirements
         if (isFinale) {
@@ -37,6 +45,15 @@ public class ObstacleCard {
         }
     }
     
+    /**
+     * Gets the index of this obstacle in the obstacle service.
+     * 
+     * @return the obstacle index
+     */
+    public int getIndex() {
+        return index;
+    }
+    
     public String getId() {
         return id;
     }
@@ -61,6 +78,34 @@ public class ObstacleCard {
         return type;
     }
     
+    /**
+     * Gets the parsed type of this obstacle.
+     * 
+     * @return the obstacle type, or null if the type is not a known type
+     */
+    public ObstacleType getObstacleType() {
+        return obstacleType;
+    }
+    
+    /**
+     * Gets the mask of the skills this obstacle requires.
+     * 
+     * @return the required skill mask, built from {@link Stat#getMask()}
+     */
+    public int getRequiredSkillMask() {
+        return requiredSkillMask;
+    }
+    
+    /**
+     * Checks whether a stat is one of the skills this obstacle requires.
+     * 
+     * @param stat the stat to check, may be null
+     * @return true if the stat is a required skill
+     */
+    public boolean requiresSkill(Stat stat) {
+        return stat != null && (requiredSkillMask & stat.getMask()) != 0;
+    }
+    
     public String getImagePath() {
         return imagePath;
     }
@@ -82,7 +127,7 @@ public class ObstacleCard {
             return true;
         } else {
             // For regular obstacles, check normal compatibility
-            return card.isCompatibleWithType(this.type);
+            return card.isCompatibleWith(obstacleType);
         }
     }
     
@@ -123,44 +168,19 @@ public class ObstacleCard {
      * @return the amount that the card contributes to its requirement
      */
     public int getCardContribution(Card card, Player player) {
+        Stat stat = card.getStatType();
+        Character character = player.getSelectedCharacter();
+        
         if (isFinale) {
             // For finale, contribution is based on the player's relevant stat
-            String stat = card.getStat().toLowerCase();
-            Character character = player.getSelectedCharacter();
-            
-            switch (stat) {
-                case "strength":
-                    return character.getStrength();
-                case "speed":
-                    return character.getSpeed();
-                case "tech":
-                    return character.getTech();
-                default:
-                    return 1;
-            }
-        } else {
-            // For regular obstacles, check if stats match
-            String cardStat = card.getStat().toLowerCase();
-            Character character = player.getSelectedCharacter();
-            
-            for (String requiredSkill : requiredSkills) {
-                if (cardStat.equals(requiredSkill.toLowerCase())) {
-                    switch (cardStat) {
-                        case "strength":
-                            return character.getStrength();
-                        case "speed":
-                            return character.getSpeed();
-                        case "tech":
-                            return character.getTech();
-                        default:
-                            return 1;
-                    }
-                }
-            }
-            
-            // Card doesn't match a required skill, contributes base value of 1
-            return 1;
+            return stat != null ? character.getStat(stat) : 1;
+        } else if (requiresSkill(stat)) {
+            // Card stat matches a required skill
+            return character.getStat(stat);
         }
+        
+        // Card doesn't match a required skill, contributes base value of 1
+        return 1;
     }
     
     @Override
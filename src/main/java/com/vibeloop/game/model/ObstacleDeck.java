@@ -12,8 +12,10 @@ public class ObstacleDeck {
     private List<ObstacleCard> drawPile;
     private List<ObstacleCard> activeObstacles;
     private List<ObstacleCard> defeatedObstacles;
+    private final GameRandom random;
     
-    public ObstacleDeck() {
+    public ObstacleDeck(GameRandom random) {
+        this.random = random;
         allCards = new ArrayList<>();
         drawPile = new ArrayList<>();
         activeObstacles = new ArrayList<>();
@@ -44,7 +46,7 @@ public class ObstacleDeck {
      * Shuffles the draw pile.
      */
     public void shuffle() {
-        Collections.shuffle(drawPile);
+        random.shuffle(drawPile);
     }
     
     /**
@@ -0,0 +1,35 @@
+package com.vibeloop.game.model;
+
+/**
+ * The outcome of one obstacle encounter.
+ */
+public class ObstacleResult {
+    private final ObstacleCard obstacle;
+    private final boolean succeeded;
+    private final int loop;
+
+    /**
+     * Creates an obstacle result.
+     *
+     * @param obstacle the obstacle the players faced
+     * @param succeeded whether the players overcame it
+     * @param loop the time loop it was faced in, starting at 1
+     */
+    public ObstacleResult(ObstacleCard obstacle, boolean succeeded, int loop) {
+        this.obstacle = obstacle;
+        this.succeeded = succeeded;
+        this.loop = loop;
+    }
+
+    public ObstacleCard getObstacle() {
+        return obstacle;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public int getLoop() {
+        return loop;
+    }
+}
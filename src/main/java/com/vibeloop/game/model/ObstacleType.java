@@ -0,0 +1,66 @@
+package com.vibeloop.game.model;
+
+/**
+ * The types of obstacles, which are also the types a card can be compatible with.
+ */
+public enum ObstacleType {
+    BARRIER,
+    HAZARD,
+    ENVIRONMENT,
+    PERSONNEL,
+    FINALE;
+
+    private static final ObstacleType[] VALUES = values();
+
+    private final int mask;
+
+    ObstacleType() {
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * Gets the bit of this type in a type mask.
+     *
+     * @return the bit mask of this type
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Parses an obstacle type name as used in the content files, ignoring case.
+     *
+     * @param name the type name
+     * @return the obstacle type, or null if the name is not a known type
+     */
+    public static ObstacleType fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ObstacleType type : VALUES) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the mask of the known types among the given names.
+     *
+     * @param names the type names
+     * @return the type mask
+     */
+    public static int maskOf(String[] names) {
+        int mask = 0;
+        if (names != null) {
+            for (String name : names) {
+                ObstacleType type = fromName(name);
+                if (type != null) {
+                    mask |= type.mask;
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -1,27 +1,27 @@
 package com.vibeloop.game.model;
 
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Represents a player in the game.
+ * 
+ * The player keeps its state in plain fields and does not depend on JavaFX, so games can
+ * run headless and in parallel, each on its own thread. The UI mirrors the state it shows
+ * through an adapter with JavaFX properties.
  */
 public class Player {
     private final int playerNumber;
-    private final StringProperty name = new SimpleStringProperty("Player");
+    private String name;
     private Character selectedCharacter;
     private Deck deck;
-    private final IntegerProperty currentHealth = new SimpleIntegerProperty(0);
+    private int currentHealth;
+    private boolean bot;
 
     public Player(int playerNumber, Character initialCharacter) {
         this.playerNumber = playerNumber;
-        this.name.set("Player " + playerNumber);
+        this.name = "Player " + playerNumber;
         this.selectedCharacter = initialCharacter;
         // Initialize health to character's max health
         if (initialCharacter != null) {
-            this.currentHealth.set(initialCharacter.getHealth());
+            this.currentHealth = initialCharacter.getHealth();
         }
     }
 
@@ -29,16 +29,25 @@ public class Player {
         return playerNumber;
     }
 
-    public StringProperty nameProperty() {
+    public String getName() {
         return name;
     }
 
-    public String getName() {
-        return name.get();
+    public void setName(String name) {
+        this.name = name;
     }
 
-    public void setName(String name) {
-        this.name.set(name);
+    /**
+     * Checks if the player is controlled by the computer.
+     * 
+     * @return true if a bot chooses the player's cards
+     */
+    public boolean isBot() {
+        return bot;
+    }
+    
+    public void setBot(boolean bot) {
+        this.bot = bot;
     }
 
     public Character getSelectedCharacter() {
@@ -48,7 +57,7 @@ public class Player {
     public void setSelectedCharacter(Character selectedCharacter) {
         this.selectedCharacter = selectedCharacter;
         // Reset health when character changes
-        this.currentHealth.set(selectedCharacter.getHealth());
+        this.currentHealth = selectedCharacter.getHealth();
     }
     
     public Deck getDeck() {
@@ -63,13 +72,6 @@ public class Player {
      * Gets the current health of the player.
      */
     public int getCurrentHealth() {
-        return currentHealth.get();
-    }
-    
-    /**
-     * Gets the health property for binding.
-     */
-    public IntegerProperty currentHealthProperty() {
         return currentHealth;
     }
     
@@ -80,9 +82,8 @@ public class Player {
      * @return Remaining health after taking damage
      */
     public int takeDamage(int amount) {
-        int newHealth = Math.max(0, getCurrentHealth() - amount);
-        currentHealth.set(newHealth);
-        return newHealth;
+        currentHealth = Math.max(0, currentHealth - amount);
+        return currentHealth;
     }
     
     /**
@@ -102,8 +103,23 @@ public class Player {
      */
     public int heal(int amount) {
         int maxHealth = selectedCharacter.getHealth();
-        int newHealth = Math.min(maxHealth, getCurrentHealth() + amount);
-        currentHealth.set(newHealth);
-        return newHealth;
+        currentHealth = Math.min(maxHealth, currentHealth + amount);
+        return currentHealth;
+    }
+    
+    /**
+     * Creates an independent copy of the player and their deck, e.g. for a bot to play
+     * out a hypothetical game.
+     * 
+     * @param random the random source of the copied deck
+     * @return the copy
+     */
+    public Player copy(GameRandom random) {
+        Player copy = new Player(playerNumber, selectedCharacter);
+        copy.name = name;
+        copy.deck = deck != null ? deck.copy(random) : null;
+        copy.currentHealth = currentHealth;
+        copy.bot = bot;
+        return copy;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.vibeloop.game.model;
+
+/**
+ * The character stats a card can use.
+ */
+public enum Stat {
+    STRENGTH("Strength"),
+    SPEED("Speed"),
+    TECH("Tech");
+
+    private static final Stat[] VALUES = values();
+
+    private final String displayName;
+    private final int mask;
+
+    Stat(String displayName) {
+        this.displayName = displayName;
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * Gets the name of the stat as shown to the players.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the bit of this stat in a stat mask.
+     *
+     * @return the bit mask of this stat
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Parses a stat name as used in the content files, ignoring case.
+     *
+     * @param name the stat name
+     * @return the stat, or null if the name is not a known stat
+     */
+    public static Stat fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (Stat stat : VALUES) {
+            if (stat.name().equalsIgnoreCase(name)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the mask of the known stats among the given names.
+     *
+     * @param names the stat names
+     * @return the stat mask
+     */
+    public static int maskOf(String[] names) {
+        int mask = 0;
+        if (names != null) {
+            for (String name : names) {
+                Stat stat = fromName(name);
+                if (stat != null) {
+                    mask |= stat.mask;
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -2,12 +2,16 @@ package com.vibeloop.game.service;
 
 import com.vibeloop.game.model.Card;
 import com.vibeloop.game.model.Deck;
+import com.vibeloop.game.model.GameRandom;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.json.Json;
@@ -17,23 +21,90 @@ import javax.json.JsonReader;
 
 /**
  * Service for managing cards.
+ * 
+ * The service is the registry of card definitions: each card id is loaded into a single
+ * immutable {@link Card} with a registry index, and decks and rewards refer to those
+ * shared definitions rather than copies. The art of each card is looked up once at load
+ * time, and cards without art are marked for a placeholder.
  */
 public class CardService {
+    static final String CARDS_PATH = "/cards/cards.json";
+    static final String STARTER_DECKS_PATH = "/cards/starter_decks.json";
+    
+    // Folders searched for card art, in order
+    static final String[] CARD_IMAGE_FOLDERS = {"/cards/", "/cards/skills/", "/cards/tools/"};
+    
     private Map<String, Card> cards;
-    private Map<String, List<String>> starterDecks;
+    private List<Card> registry;
+    private Map<String, List<Card>> starterDecks;
     
     public CardService() {
+        this(loadCards());
+    }
+    
+    private CardService(List<Card> registry) {
+        this(registry, resolveStarterDecks(loadStarterDecks(), registry));
+    }
+    
+    /**
+     * Creates the service from cards and starter decks already read, e.g. from the content pack.
+     * 
+     * @param registry the cards, in registry index order
+     * @param starterDecks the cards of the starter deck of each character type
+     */
+    CardService(List<Card> registry, Map<String, List<Card>> starterDecks) {
         cards = new HashMap<>();
-        starterDecks = new HashMap<>();
-        loadCards();
-        loadStarterDecks();
+        for (Card card : registry) {
+            cards.put(card.getId(), card);
+        }
+        cards = Collections.unmodifiableMap(cards);
+        this.registry = Collections.unmodifiableList(new ArrayList<>(registry));
+        this.starterDecks = Collections.unmodifiableMap(new HashMap<>(starterDecks));
     }
     
     /**
      * Loads card data from the JSON configuration file.
      */
-    private void loadCards() {
-        try (InputStream is = getClass().getResourceAsStream("/cards/cards.json");
+    private static List<Card> loadCards() {
+        try {
+            List<Card> registry = readCards();
+            for (Card card : registry) {
+                if (card.getImagePath() == null) {
+                    System.err.println("No image found for card " + card.getId() + ", using a placeholder");
+                }
+            }
+            return registry;
+        } catch (Exception e) {
+            System.err.println("Error loading card data: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Loads starter deck configurations from the JSON file.
+     */
+    private static Map<String, List<String>> loadStarterDecks() {
+        try {
+            return readStarterDecks();
+        } catch (Exception e) {
+            System.err.println("Error loading starter deck data: " + e.getMessage());
+            e.printStackTrace();
+            return new HashMap<>();
+        }
+    }
+    
+    /**
+     * Reads the cards from the JSON configuration file, failing on any problem. Cards
+     * without art are read with a null image path and left to the caller to report.
+     * 
+     * @return the cards, in registry index order
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is malformed or a required field is missing
+     */
+    static List<Card> readCards() throws IOException {
+        List<Card> registry = new ArrayList<>();
+        try (InputStream is = ContentRepository.openResource(CARDS_PATH);
              JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             
             JsonObject jsonObject = reader.readObject();
@@ -47,7 +118,8 @@ public class CardService {
                     JsonArray typesArray = cardObj.getJsonArray("compatibleTypes");
                     compatibleTypes = new String[typesArray.size()];
                     for (int i = 0; i < typesArray.size(); i++) {
-                        compatibleTypes[i] = typesArray.getString(i);
+                        // Intern the type names so all cards share the same strings
+                        compatibleTypes[i] = typesArray.getString(i).intern();
                     }
                 } else {
                     // Default to all types if not specified
@@ -55,25 +127,30 @@ public class CardService {
                 }
                 
                 Card card = new Card(
+                    registry.size(),
                     id,
                     cardObj.getString("name"),
                     cardObj.getString("description"),
-                    cardObj.getString("stat"),
-                    compatibleTypes
+                    cardObj.getString("stat").intern(),
+                    compatibleTypes,
+                    resolveImagePath(id)
                 );
-                cards.put(id, card);
+                registry.add(card);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading card data: " + e.getMessage());
-            e.printStackTrace();
         }
+        return registry;
     }
     
     /**
-     * Loads starter deck configurations from the JSON file.
+     * Reads the starter deck configurations from the JSON file, failing on any problem.
+     * 
+     * @return the card IDs of the starter deck of each character type
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is malformed or a required field is missing
      */
-    private void loadStarterDecks() {
-        try (InputStream is = getClass().getResourceAsStream("/cards/starter_decks.json");
+    static Map<String, List<String>> readStarterDecks() throws IOException {
+        Map<String, List<String>> starterDecks = new LinkedHashMap<>();
+        try (InputStream is = ContentRepository.openResource(STARTER_DECKS_PATH);
              JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             
             JsonObject jsonObject = reader.readObject();
@@ -89,10 +166,35 @@ public class CardService {
                 
                 starterDecks.put(characterType, deckCards);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading starter deck data: " + e.getMessage());
-            e.printStackTrace();
         }
+        return starterDecks;
+    }
+    
+    /**
+     * Looks up the cards of the starter decks once, skipping unknown card IDs.
+     * 
+     * @param starterDecks the card IDs of the starter deck of each character type
+     * @param registry the cards
+     * @return the cards of the starter deck of each character type
+     */
+    static Map<String, List<Card>> resolveStarterDecks(Map<String, List<String>> starterDecks, List<Card> registry) {
+        Map<String, Card> cardsById = new HashMap<>();
+        for (Card card : registry) {
+            cardsById.put(card.getId(), card);
+        }
+        
+        Map<String, List<Card>> resolved = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : starterDecks.entrySet()) {
+            List<Card> deckCards = new ArrayList<>();
+            for (String cardId : entry.getValue()) {
+                Card card = cardsById.get(cardId);
+                if (card != null) {
+                    deckCards.add(card);
+                }
+            }
+            resolved.put(entry.getKey(), Collections.unmodifiableList(deckCards));
+        }
+        return resolved;
     }
     
     /**
@@ -105,35 +207,87 @@ public class CardService {
         return cards.get(id);
     }
     
+    /**
+     * Finds the art of a card in the card image folders.
+     * 
+     * @param id the card ID
+     * @return the resource path of the image, or null if the card has no art
+     */
+    private static String resolveImagePath(String id) {
+        for (String folder : CARD_IMAGE_FOLDERS) {
+            String path = folder + id + ".jpg";
+            if (CardService.class.getResource(path) != null) {
+                return path;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Gets a card by its registry index.
+     * 
+     * @param index the registry index
+     * @return the card
+     */
+    public Card getCard(int index) {
+        return registry.get(index);
+    }
+    
+    /**
+     * Gets the number of cards in the registry.
+     * 
+     * @return the number of cards
+     */
+    public int getCardCount() {
+        return registry.size();
+    }
+    
     /**
      * Gets all cards.
      * 
-     * @return the map of cards
+     * @return the unmodifiable map of cards
      */
     public Map<String, Card> getAllCards() {
         return cards;
     }
     
+    /**
+     * Picks a random card from the registry, for example as a reward.
+     * 
+     * @param random the random source of the game
+     * @return the shared card definition
+     */
+    public Card getRandomCard(GameRandom random) {
+        return registry.get(random.nextInt(registry.size()));
+    }
+    
     /**
      * Creates a starter deck for a character type.
      * 
      * @param characterType the character type
+     * @param random the random source of the game the deck is used in
      * @return the starter deck
      */
-    public Deck createStarterDeck(String characterType) {
-        Deck deck = new Deck();
-        List<String> cardIds = starterDecks.get(characterType);
+    public Deck createStarterDeck(String characterType, GameRandom random) {
+        Deck deck = new Deck(random);
+        List<Card> deckCards = starterDecks.get(characterType);
         
-        if (cardIds != null) {
-            for (String cardId : cardIds) {
-                Card card = getCard(cardId);
-                if (card != null) {
-                    deck.addCard(card);
-                }
+        if (deckCards != null) {
+            for (Card card : deckCards) {
+                deck.addCard(card);
             }
         }
         
         deck.shuffle();
         return deck;
     }
+    
+    /**
+     * Gets the starter decks.
+     * 
+     * @return the unmodifiable map from character type to the cards of its starter deck
+     */
+    Map<String, List<Card>> getStarterDecks() {
+        return starterDecks;
+    }
 } 
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.vibeloop.game.service;
 
 import com.vibeloop.game.model.Character;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,20 +18,56 @@ import javax.json.JsonReader;
  * Service for managing character data.
  */
 public class CharacterService {
+    static final String CHARACTERS_PATH = "/characters/stats.json";
+
     private Map<String, Character> characters;
     private List<String> characterTypes;
+    private List<Character> characterList;
 
     public CharacterService() {
+        this(loadCharacters());
+    }
+
+    /**
+     * Creates the service from characters already read, e.g. from the content pack.
+     * 
+     * @param characterList the characters, in index order
+     */
+    CharacterService(List<Character> characterList) {
         characters = new HashMap<>();
         characterTypes = new ArrayList<>();
-        loadCharacters();
+        for (Character character : characterList) {
+            characters.put(character.getType(), character);
+            characterTypes.add(character.getType());
+        }
+        characters = Collections.unmodifiableMap(characters);
+        characterTypes = Collections.unmodifiableList(characterTypes);
+        this.characterList = Collections.unmodifiableList(new ArrayList<>(characterList));
     }
 
     /**
      * Loads character data from the JSON configuration file.
      */
-    private void loadCharacters() {
-        try (InputStream is = getClass().getResourceAsStream("/characters/stats.json");
+    private static List<Character> loadCharacters() {
+        try {
+            return readCharacters();
+        } catch (Exception e) {
+            System.err.println("Error loading character data: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Reads the characters from the JSON configuration file, failing on any problem.
+     * 
+     * @return the characters, in index order
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is malformed or a required field is missing
+     */
+    static List<Character> readCharacters() throws IOException {
+        List<Character> characterList = new ArrayList<>();
+        try (InputStream is = ContentRepository.openResource(CHARACTERS_PATH);
              JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             
             JsonObject jsonObject = reader.readObject();
@@ -37,6 +75,7 @@ public class CharacterService {
             for (String type : jsonObject.keySet()) {
                 JsonObject charObj = jsonObject.getJsonObject(type);
                 Character character = new Character(
+                    characterList.size(),
                     type,
                     charObj.getString("name"),
                     charObj.getInt("strength"),
@@ -45,13 +84,10 @@ public class CharacterService {
                     charObj.getInt("health"),
                     charObj.getString("description")
                 );
-                characters.put(type, character);
-                characterTypes.add(type);
+                characterList.add(character);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading character data: " + e.getMessage());
-            e.printStackTrace();
         }
+        return characterList;
     }
 
     /**
@@ -64,10 +100,29 @@ public class CharacterService {
         return characters.get(type);
     }
 
+    /**
+     * Gets a character by its index.
+     * 
+     * @param index the character index
+     * @return the character
+     */
+    public Character getCharacter(int index) {
+        return characterList.get(index);
+    }
+
+    /**
+     * Gets the number of characters.
+     * 
+     * @return the number of characters
+     */
+    public int getCharacterCount() {
+        return characterList.size();
+    }
+
     /**
      * Gets all character types.
      * 
-     * @return the list of character types
+     * @return the unmodifiable list of character types
      */
     public List<String> getCharacterTypes() {
         return characterTypes;
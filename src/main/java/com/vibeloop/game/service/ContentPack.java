@@ -0,0 +1,232 @@
+package com.vibeloop.game.service;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binary content pack, compiled from the JSON content files at build time.
+ *
+ * The pack holds the validated content in one stream: a string table, then the
+ * configuration, characters, cards, starter decks and obstacles. Each distinct string is
+ * stored once and referenced by its index, card art paths are already resolved, and
+ * starter decks refer to cards by registry index, so the pack is read in a single pass
+ * without parsing or lookups. A pack of another format version is rejected, and the
+ * content is then loaded from the JSON files.
+ */
+final class ContentPack {
+    static final String PACK_PATH = "/content.pack";
+
+    // Marks a content pack and its format version
+    private static final int MAGIC = 0x564C4350; // "VLCP"
+    private static final int VERSION = 1;
+
+    // String index of a missing string, e.g. a card without art
+    private static final int NO_STRING = -1;
+
+    private ContentPack() {
+    }
+
+    /**
+     * Writes content to a pack.
+     *
+     * @param content the content to write
+     * @param out the stream to write the pack to
+     * @throws IOException if the pack cannot be written
+     */
+    static void write(ContentRepository content, OutputStream out) throws IOException {
+        // Write the sections first to collect the strings for the table in front of them
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream sections = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(sections);
+
+        GameConfigService config = content.getConfigService();
+        body.writeInt(config.getObstacleDeckSize());
+        body.writeBoolean(config.shouldShuffleObstacleDeck());
+        body.writeBoolean(config.shouldKeepHistoryAcrossLoops());
+        body.writeInt(config.getMaxHistoryEntries());
+
+        CharacterService characterService = content.getCharacterService();
+        body.writeInt(characterService.getCharacterCount());
+        for (int i = 0; i < characterService.getCharacterCount(); i++) {
+            Character character = characterService.getCharacter(i);
+            writeString(body, strings, character.getType());
+            writeString(body, strings, character.getName());
+            body.writeInt(character.getStrength());
+            body.writeInt(character.getSpeed());
+            body.writeInt(character.getTech());
+            body.writeInt(character.getHealth());
+            writeString(body, strings, character.getDescription());
+        }
+
+        CardService cardService = content.getCardService();
+        body.writeInt(cardService.getCardCount());
+        for (int i = 0; i < cardService.getCardCount(); i++) {
+            Card card = cardService.getCard(i);
+            writeString(body, strings, card.getId());
+            writeString(body, strings, card.getName());
+            writeString(body, strings, card.getDescription());
+            writeString(body, strings, card.getStat());
+            writeStrings(body, strings, card.getCompatibleTypes());
+            writeString(body, strings, card.getImagePath());
+        }
+
+        Map<String, List<Card>> starterDecks = cardService.getStarterDecks();
+        body.writeInt(starterDecks.size());
+        for (Map.Entry<String, List<Card>> entry : starterDecks.entrySet()) {
+            writeString(body, strings, entry.getKey());
+            body.writeInt(entry.getValue().size());
+            for (Card card : entry.getValue()) {
+                body.writeInt(card.getIndex());
+            }
+        }
+
+        ObstacleService obstacleService = content.getObstacleService();
+        body.writeInt(obstacleService.getObstacleCount());
+        for (int i = 0; i < obstacleService.getObstacleCount(); i++) {
+            ObstacleCard obstacle = obstacleService.getObstacleCard(i);
+            writeString(body, strings, obstacle.getId());
+            writeString(body, strings, obstacle.getName());
+            writeString(body, strings, obstacle.getDescription());
+            body.writeInt(obstacle.getDifficulty());
+            writeStrings(body, strings, obstacle.getRequiredSkills());
+            writeString(body, strings, obstacle.getType());
+        }
+        body.flush();
+
+        DataOutputStream pack = new DataOutputStream(out);
+        pack.writeInt(MAGIC);
+        pack.writeInt(VERSION);
+        pack.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            pack.writeUTF(string);
+        }
+        sections.writeTo(pack);
+        pack.flush();
+    }
+
+    /**
+     * Reads content from a pack.
+     *
+     * @param in the stream to read the pack from
+     * @param start the {@link System#nanoTime()} loading started at, for the reported load time
+     * @return the content
+     * @throws IOException if the pack cannot be read, is malformed or has another format version
+     */
+    static ContentRepository read(InputStream in, long start) throws IOException {
+        DataInputStream pack = new DataInputStream(new BufferedInputStream(in));
+        if (pack.readInt() != MAGIC) {
+            throw new IOException("Not a content pack");
+        }
+        int version = pack.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported content pack version " + version + ", expected " + VERSION);
+        }
+
+        // Intern the strings so they are shared with any other copies, as when loading JSON
+        String[] strings = new String[pack.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = pack.readUTF().intern();
+        }
+
+        GameConfigService configService = new GameConfigService(
+            pack.readInt(), pack.readBoolean(), pack.readBoolean(), pack.readInt());
+
+        List<Character> characters = new ArrayList<>();
+        int characterCount = pack.readInt();
+        for (int i = 0; i < characterCount; i++) {
+            characters.add(new Character(
+                i,
+                readString(pack, strings),
+                readString(pack, strings),
+                pack.readInt(),
+                pack.readInt(),
+                pack.readInt(),
+                pack.readInt(),
+                readString(pack, strings)
+            ));
+        }
+
+        List<Card> cards = new ArrayList<>();
+        int cardCount = pack.readInt();
+        for (int i = 0; i < cardCount; i++) {
+            cards.add(new Card(
+                i,
+                readString(pack, strings),
+                readString(pack, strings),
+                readString(pack, strings),
+                readString(pack, strings),
+                readStrings(pack, strings),
+                readString(pack, strings)
+            ));
+        }
+
+        Map<String, List<Card>> starterDecks = new LinkedHashMap<>();
+        int deckCount = pack.readInt();
+        for (int i = 0; i < deckCount; i++) {
+            String characterType = readString(pack, strings);
+            List<Card> deckCards = new ArrayList<>();
+            int size = pack.readInt();
+            for (int j = 0; j < size; j++) {
+                deckCards.add(cards.get(pack.readInt()));
+            }
+            starterDecks.put(characterType, List.copyOf(deckCards));
+        }
+
+        List<ObstacleCard> obstacles = new ArrayList<>();
+        int obstacleCount = pack.readInt();
+        for (int i = 0; i < obstacleCount; i++) {
+            obstacles.add(new ObstacleCard(
+                i,
+                readString(pack, strings),
+                readString(pack, strings),
+                readString(pack, strings),
+                pack.readInt(),
+                readStrings(pack, strings),
+                readString(pack, strings)
+            ));
+        }
+
+        return ContentRepository.create(configService, new CharacterService(characters),
+                                        new CardService(cards, starterDecks),
+                                        new ObstacleService(obstacles, configService), start, "the content pack");
+    }
+
+    private static void writeString(DataOutputStream out, Map<String, Integer> strings, String string)
+            throws IOException {
+        out.writeInt(string == null ? NO_STRING : strings.computeIfAbsent(string, s -> strings.size()));
+    }
+
+    private static void writeStrings(DataOutputStream out, Map<String, Integer> strings, String[] array)
+            throws IOException {
+        out.writeInt(array.length);
+        for (String string : array) {
+            writeString(out, strings, string);
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        int index = in.readInt();
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    private static String[] readStrings(DataInputStream in, String[] strings) throws IOException {
+        String[] array = new String[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = readString(in, strings);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,158 @@
+package com.vibeloop.game.service;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleType;
+import com.vibeloop.game.model.Stat;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the JSON content files and compiles them into the content pack.
+ *
+ * Run by the {@code compileContentPack} Gradle task with the content resources on the
+ * classpath. Unlike the services at runtime, the compiler fails on malformed files and
+ * missing fields, and it checks the references between files: the stats and obstacle
+ * types named by cards and obstacles, the cards of the starter decks and the art of each
+ * character. Any error fails the build; missing card and obstacle art is only reported,
+ * as the game shows a placeholder for it.
+ */
+public class ContentPackCompiler {
+    private final List<String> errors = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+
+    /**
+     * Compiles the content pack.
+     *
+     * @param args the path of the pack file to write
+     * @throws IOException if a content file cannot be read or the pack cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ContentPackCompiler <pack file>");
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        GameConfigService configService = read(GameConfigService.CONFIG_PATH, GameConfigService::read);
+        List<Character> characters = read(CharacterService.CHARACTERS_PATH, CharacterService::readCharacters);
+        List<Card> cards = read(CardService.CARDS_PATH, CardService::readCards);
+        Map<String, List<String>> starterDecks = read(CardService.STARTER_DECKS_PATH, CardService::readStarterDecks);
+        List<ObstacleCard> obstacles = read(ObstacleService.OBSTACLES_PATH, ObstacleService::readObstacleCards);
+
+        ContentPackCompiler compiler = new ContentPackCompiler();
+        compiler.validate(configService, characters, cards, starterDecks, obstacles);
+        for (String warning : compiler.warnings) {
+            System.out.println("Warning: " + warning);
+        }
+        if (!compiler.errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid game content:\n- " + String.join("\n- ", compiler.errors));
+        }
+
+        ContentRepository content = ContentRepository.create(configService,
+            new CharacterService(characters),
+            new CardService(cards, CardService.resolveStarterDecks(starterDecks, cards)),
+            new ObstacleService(obstacles, configService),
+            start, "JSON");
+
+        Path packFile = Paths.get(args[0]);
+        if (packFile.getParent() != null) {
+            Files.createDirectories(packFile.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(packFile))) {
+            ContentPack.write(content, out);
+        }
+        System.out.println("Wrote content pack " + packFile + " (" + Files.size(packFile) + " bytes)");
+    }
+
+    /**
+     * Reads a content file, naming the file when it is malformed.
+     */
+    private static <T> T read(String path, ContentReader<T> reader) throws IOException {
+        try {
+            return reader.read();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(path + " is malformed: " + e, e);
+        }
+    }
+
+    private void validate(GameConfigService configService, List<Character> characters, List<Card> cards,
+                          Map<String, List<String>> starterDecks, List<ObstacleCard> obstacles) {
+        check(configService.getObstacleDeckSize() >= 1,
+            GameConfigService.CONFIG_PATH + ": obstacles.deck_size must be at least 1 for the finale");
+        check(configService.getMaxHistoryEntries() > 0,
+            GameConfigService.CONFIG_PATH + ": history.max_entries must be positive");
+
+        check(!characters.isEmpty(), CharacterService.CHARACTERS_PATH + ": no characters");
+        for (Character character : characters) {
+            String where = CharacterService.CHARACTERS_PATH + ": character '" + character.getType() + "'";
+            check(character.getHealth() > 0, where + " must have positive health");
+            check(character.getStrength() >= 0 && character.getSpeed() >= 0 && character.getTech() >= 0,
+                where + " must not have negative stats");
+            check(getClass().getResource(character.getImagePath()) != null,
+                where + " has no image " + character.getImagePath());
+            check(starterDecks.containsKey(character.getType()),
+                CardService.STARTER_DECKS_PATH + ": no starter deck for character '" + character.getType() + "'");
+        }
+
+        List<String> cardIds = new ArrayList<>();
+        for (Card card : cards) {
+            String where = CardService.CARDS_PATH + ": card '" + card.getId() + "'";
+            cardIds.add(card.getId());
+            check(card.getStatType() != null, where + " has unknown stat '" + card.getStat() + "'");
+            for (String type : card.getCompatibleTypes()) {
+                check(ObstacleType.fromName(type) != null, where + " has unknown compatible type '" + type + "'");
+            }
+            if (card.getImagePath() == null) {
+                warnings.add(where + " has no image " + card.getId() + ".jpg in " +
+                    String.join(", ", CardService.CARD_IMAGE_FOLDERS) + " and is shown as a placeholder");
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entry : starterDecks.entrySet()) {
+            String where = CardService.STARTER_DECKS_PATH + ": starter deck '" + entry.getKey() + "'";
+            check(characters.stream().anyMatch(c -> c.getType().equals(entry.getKey())),
+                where + " is not for a known character type");
+            check(!entry.getValue().isEmpty(), where + " has no cards");
+            for (String cardId : entry.getValue()) {
+                check(cardIds.contains(cardId), where + " has unknown card '" + cardId + "'");
+            }
+        }
+
+        int finales = 0;
+        for (ObstacleCard obstacle : obstacles) {
+            String where = ObstacleService.OBSTACLES_PATH + ": obstacle '" + obstacle.getId() + "'";
+            check(obstacle.getObstacleType() != null, where + " has unknown type '" + obstacle.getType() + "'");
+            check(obstacle.getDifficulty() > 0, where + " must have a positive difficulty");
+            for (String skill : obstacle.getRequiredSkills()) {
+                check(Stat.fromName(skill) != null, where + " requires unknown skill '" + skill + "'");
+            }
+            if (obstacle.isFinale()) {
+                finales++;
+            }
+            if (getClass().getResource(obstacle.getImagePath()) == null) {
+                warnings.add(where + " has no image " + obstacle.getImagePath() + " and is shown as a placeholder");
+            }
+        }
+        check(finales == 1, ObstacleService.OBSTACLES_PATH + ": expected exactly one finale obstacle, found " + finales);
+    }
+
+    private void check(boolean condition, String error) {
+        if (!condition) {
+            errors.add(error);
+        }
+    }
+
+    private interface ContentReader<T> {
+        T read() throws IOException;
+    }
+}
@@ -0,0 +1,162 @@
+package com.vibeloop.game.service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The game content: configuration, characters, cards and obstacles.
+ *
+ * The content is read once, when the repository is loaded, and the repository is then
+ * shared by every screen, game and simulation. It is immutable after loading,
+ * so it can be used from several threads at once without synchronization.
+ */
+public final class ContentRepository {
+    private final GameConfigService configService;
+    private final CharacterService characterService;
+    private final CardService cardService;
+    private final ObstacleService obstacleService;
+    private final long loadTimeMillis;
+
+    private ContentRepository(GameConfigService configService, CharacterService characterService,
+                              CardService cardService, ObstacleService obstacleService, long loadTimeMillis) {
+        this.configService = configService;
+        this.characterService = characterService;
+        this.cardService = cardService;
+        this.obstacleService = obstacleService;
+        this.loadTimeMillis = loadTimeMillis;
+    }
+
+    /**
+     * Loads the content and reports how long loading took. The content is read from the
+     * content pack compiled at build time, or from the JSON content files if there is no
+     * usable pack, e.g. when running from the sources.
+     *
+     * @return the loaded content
+     */
+    public static ContentRepository load() {
+        long start = System.nanoTime();
+        ContentRepository content = loadPack(start);
+        if (content != null) {
+            return content;
+        }
+        GameConfigService configService = new GameConfigService();
+        return create(configService, new CharacterService(), new CardService(), new ObstacleService(configService),
+                      start, "JSON");
+    }
+
+    /**
+     * Loads the content in the background and reports how long loading took. The content
+     * pack is read in one pass; without a usable pack the JSON content files are parsed in
+     * parallel. The obstacles are parsed once the configuration is; the other files do not
+     * depend on each other.
+     *
+     * @param executor the executor to read the content on
+     * @return a future completed with the loaded content
+     */
+    public static CompletableFuture<ContentRepository> loadAsync(Executor executor) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> loadPack(start), executor).thenCompose(content -> {
+            if (content != null) {
+                return CompletableFuture.completedFuture(content);
+            }
+            CompletableFuture<GameConfigService> config = CompletableFuture.supplyAsync(GameConfigService::new, executor);
+            CompletableFuture<CharacterService> characters = CompletableFuture.supplyAsync(CharacterService::new, executor);
+            CompletableFuture<CardService> cards = CompletableFuture.supplyAsync(CardService::new, executor);
+            CompletableFuture<ObstacleService> obstacles = config.thenApplyAsync(ObstacleService::new, executor);
+            return CompletableFuture.allOf(characters, cards, obstacles)
+                .thenApply(done -> create(config.join(), characters.join(), cards.join(), obstacles.join(),
+                                          start, "JSON"));
+        });
+    }
+
+    /**
+     * Reads the content pack.
+     *
+     * @return the content, or null if there is no usable pack
+     */
+    private static ContentRepository loadPack(long start) {
+        try (InputStream is = ContentRepository.class.getResourceAsStream(ContentPack.PACK_PATH)) {
+            if (is == null) {
+                System.out.println("No content pack found, loading the JSON content files");
+                return null;
+            }
+            return ContentPack.read(is, start);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading content pack, loading the JSON content files: " + e.getMessage());
+            return null;
+        }
+    }
+
+    static ContentRepository create(GameConfigService configService, CharacterService characterService,
+                                    CardService cardService, ObstacleService obstacleService, long start,
+                                    String source) {
+        long loadTimeMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Loaded " + characterService.getCharacterCount() + " characters, " +
+                           cardService.getCardCount() + " cards and " + obstacleService.getObstacleCount() +
+                           " obstacles from " + source + " in " + loadTimeMillis + " ms");
+        return new ContentRepository(configService, characterService, cardService, obstacleService, loadTimeMillis);
+    }
+
+    /**
+     * Opens a content resource.
+     *
+     * @param path the resource path
+     * @return the stream of the resource
+     * @throws FileNotFoundException if the resource does not exist
+     */
+    static InputStream openResource(String path) throws FileNotFoundException {
+        InputStream is = ContentRepository.class.getResourceAsStream(path);
+        if (is == null) {
+            throw new FileNotFoundException("Content file not found: " + path);
+        }
+        return is;
+    }
+
+    /**
+     * Gets the game configuration.
+     *
+     * @return the configuration service
+     */
+    public GameConfigService getConfigService() {
+        return configService;
+    }
+
+    /**
+     * Gets the character definitions.
+     *
+     * @return the character service
+     */
+    public CharacterService getCharacterService() {
+        return characterService;
+    }
+
+    /**
+     * Gets the card definitions and starter decks.
+     *
+     * @return the card service
+     */
+    public CardService getCardService() {
+        return cardService;
+    }
+
+    /**
+     * Gets the obstacle definitions.
+     *
+     * @return the obstacle service
+     */
+    public ObstacleService getObstacleService() {
+        return obstacleService;
+    }
+
+    /**
+     * Gets how long loading the content took.
+     *
+     * @return the load time in milliseconds
+     */
+    public long getLoadTimeMillis() {
+        return loadTimeMillis;
+    }
+}
@@ -3,6 +3,7 @@ package com.vibeloop.game.service;
 import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -11,25 +12,53 @@ import java.nio.charset.StandardCharsets;
  * Service for managing game configuration settings.
  */
 public class GameConfigService {
-    private JsonObject config;
+    static final String CONFIG_PATH = "/game_config.json";
+    
+    // Default size of the obstacle history when the config does not set one
+    private static final int DEFAULT_MAX_HISTORY_ENTRIES = 100;
+    
+    private final int obstacleDeckSize;
+    private final boolean shuffleObstacleDeck;
+    private final boolean keepHistoryAcrossLoops;
+    private final int maxHistoryEntries;
     
     public GameConfigService() {
-        loadConfig();
+        this(loadConfig());
+    }
+    
+    private GameConfigService(JsonObject config) {
+        this(config.getJsonObject("obstacles").getInt("deck_size"),
+             config.getJsonObject("obstacles").getBoolean("shuffle"),
+             config.containsKey("history") && config.getJsonObject("history").getBoolean("keep_across_loops", false),
+             config.containsKey("history")
+                 ? config.getJsonObject("history").getInt("max_entries", DEFAULT_MAX_HISTORY_ENTRIES)
+                 : DEFAULT_MAX_HISTORY_ENTRIES);
+    }
+    
+    /**
+     * Creates the configuration from settings already read, e.g. from the content pack.
+     */
+    GameConfigService(int obstacleDeckSize, boolean shuffleObstacleDeck, boolean keepHistoryAcrossLoops,
+                      int maxHistoryEntries) {
+        this.obstacleDeckSize = obstacleDeckSize;
+        this.shuffleObstacleDeck = shuffleObstacleDeck;
+        this.keepHistoryAcrossLoops = keepHistoryAcrossLoops;
+        this.maxHistoryEntries = maxHistoryEntries;
     }
     
     /**
      * Loads game configuration from the JSON file.
      */
-    private void loadConfig() {
-        try (InputStream is = getClass().getResourceAsStream("/game_config.json");
+    private static JsonObject loadConfig() {
+        try (InputStream is = ContentRepository.openResource(CONFIG_PATH);
              JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             
-            config = reader.readObject();
+            return reader.readObject();
         } catch (Exception e) {
             System.err.println("Error loading game configuration: " + e.getMessage());
             e.printStackTrace();
             // Create default config if loading fails
-            config = Json.createObjectBuilder()
+            return Json.createObjectBuilder()
                 .add("obstacles", Json.createObjectBuilder()
                     .add("deck_size", 12)
                     .add("shuffle", true)
@@ -38,13 +67,27 @@ public class GameConfigService {
         }
     }
     
+    /**
+     * Reads the game configuration from the JSON file, failing on any problem.
+     * 
+     * @return the configuration
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is malformed or a required setting is missing
+     */
+    static GameConfigService read() throws IOException {
+        try (InputStream is = ContentRepository.openResource(CONFIG_PATH);
+             JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            return new GameConfigService(reader.readObject());
+        }
+    }
+    
     /**
      * Gets the maximum number of obstacle cards to include in the deck.
      * 
      * @return the obstacle deck size
      */
     public int getObstacleDeckSize() {
-        return config.getJsonObject("obstacles").getInt("deck_size");
+        return obstacleDeckSize;
     }
     
     /**
@@ -53,6 +96,24 @@ public class GameConfigService {
      * @return true if the deck should be shuffled, false otherwise
      */
     public boolean shouldShuffleObstacleDeck() {
-        return config.getJsonObject("obstacles").getBoolean("shuffle");
+        return shuffleObstacleDeck;
+    }
+    
+    /**
+     * Checks if the obstacle history should keep the results of earlier time loops.
+     * 
+     * @return true if the history spans all loops of a game, false if it only shows the current loop
+     */
+    public boolean shouldKeepHistoryAcrossLoops() {
+        return keepHistoryAcrossLoops;
+    }
+    
+    /**
+     * Gets the maximum number of results the obstacle history keeps. Older results are dropped.
+     * 
+     * @return the maximum number of history entries
+     */
+    public int getMaxHistoryEntries() {
+        return maxHistoryEntries;
     }
-} 
\ No newline at end of file
+}
@@ -1,8 +1,10 @@
 package com.vibeloop.game.service;
 
+import com.vibeloop.game.model.GameRandom;
 import com.vibeloop.game.model.ObstacleCard;
 import com.vibeloop.game.model.ObstacleDeck;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -18,22 +20,65 @@ import javax.json.JsonReader;
 
 /**
  * Service for managing obstacle cards.
+ * 
+ * The obstacle definitions are read only after loading; decks are built from the
+ * shared definitions using the deck settings of the game configuration.
  */
 public class ObstacleService {
+    static final String OBSTACLES_PATH = "/obstacles/obstacles.json";
+    
     private Map<String, ObstacleCard> obstacleCards;
-    private GameConfigService configService;
+    private List<ObstacleCard> obstacleList;
+    private final GameConfigService configService;
     
-    public ObstacleService() {
+    /**
+     * Creates the service and loads the obstacle cards.
+     * 
+     * @param configService the game configuration with the obstacle deck settings
+     */
+    public ObstacleService(GameConfigService configService) {
+        this(loadObstacleCards(), configService);
+    }
+    
+    /**
+     * Creates the service from obstacle cards already read, e.g. from the content pack.
+     * 
+     * @param obstacleList the obstacle cards, in index order
+     * @param configService the game configuration with the obstacle deck settings
+     */
+    ObstacleService(List<ObstacleCard> obstacleList, GameConfigService configService) {
+        this.configService = configService;
         obstacleCards = new HashMap<>();
-        configService = new GameConfigService();
-        loadObstacleCards();
+        for (ObstacleCard obstacle : obstacleList) {
+            obstacleCards.put(obstacle.getId(), obstacle);
+        }
+        obstacleCards = Collections.unmodifiableMap(obstacleCards);
+        this.obstacleList = Collections.unmodifiableList(new ArrayList<>(obstacleList));
     }
     
     /**
      * Loads obstacle card data from the JSON configuration file.
      */
-    private void loadObstacleCards() {
-        try (InputStream is = getClass().getResourceAsStream("/obstacles/obstacles.json");
+    private static List<ObstacleCard> loadObstacleCards() {
+        try {
+            return readObstacleCards();
+        } catch (Exception e) {
+            System.err.println("Error loading obstacle card data: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Reads the obstacle cards from the JSON configuration file, failing on any problem.
+     * 
+     * @return the obstacle cards, in index order
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is malformed or a required field is missing
+     */
+    static List<ObstacleCard> readObstacleCards() throws IOException {
+        List<ObstacleCard> obstacleList = new ArrayList<>();
+        try (InputStream is = ContentRepository.openResource(OBSTACLES_PATH);
              JsonReader reader = Json.createReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             
             JsonObject jsonObject = reader.readObject();
@@ -48,6 +93,7 @@ public class ObstacleService {
                 }
                 
                 ObstacleCard obstacle = new ObstacleCard(
+                    obstacleList.size(),
                     id,
                     obstacleObj.getString("name"),
                     obstacleObj.getString("description"),
@@ -55,12 +101,10 @@ public class ObstacleService {
                     requiredSkills,
                     obstacleObj.getString("type")
                 );
-                obstacleCards.put(id, obstacle);
+                obstacleList.add(obstacle);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading obstacle card data: " + e.getMessage());
-            e.printStackTrace();
         }
+        return obstacleList;
     }
     
     /**
@@ -73,10 +117,29 @@ public class ObstacleService {
         return obstacleCards.get(id);
     }
     
+    /**
+     * Gets an obstacle card by its index.
+     * 
+     * @param index the obstacle index
+     * @return the obstacle card
+     */
+    public ObstacleCard getObstacleCard(int index) {
+        return obstacleList.get(index);
+    }
+    
+    /**
+     * Gets the number of obstacle cards.
+     * 
+     * @return the number of obstacle cards
+     */
+    public int getObstacleCount() {
+        return obstacleList.size();
+    }
+    
     /**
      * Gets all obstacle cards.
      * 
-     * @return the map of obstacle cards
+     * @return the unmodifiable map of obstacle cards
      */
     public Map<String, ObstacleCard> getAllObstacleCards() {
         return obstacleCards;
@@ -85,14 +148,16 @@ public class ObstacleService {
     /**
      * Creates a new obstacle deck with all available obstacle cards.
      * 
+     * @param random the random source of the game the deck is used in
      * @return the obstacle deck
      */
-    public ObstacleDeck createObstacleDeck() {
-        ObstacleDeck deck = new ObstacleDeck();
+    public ObstacleDeck createObstacleDeck(GameRandom random) {
+        ObstacleDeck deck = new ObstacleDeck(random);
         
-        // Find the finale card (nuclear core)
+        // Find the finale card (nuclear core). The cards are taken in index order, so a
+        // seed always builds the same deck
         ObstacleCard finaleCard = null;
-        for (ObstacleCard card : obstacleCards.values()) {
+        for (ObstacleCard card : obstacleList) {
             if (card.isFinale()) {
                 finaleCard = card;
                 break;
@@ -101,7 +166,7 @@ public class ObstacleService {
         
         // Get all obstacle cards except the finale
         List<ObstacleCard> regularCards = new ArrayList<>();
-        for (ObstacleCard card : obstacleCards.values()) {
+        for (ObstacleCard card : obstacleList) {
             if (!card.isFinale()) {
                 regularCards.add(card);
             }
@@ -113,14 +178,14 @@ public class ObstacleService {
         // If deckSize is less than total regular cards, randomly select cards
         if (deckSize < regularCards.size()) {
             // Shuffle the list to get random selection
-            Collections.shuffle(regularCards);
+            random.shuffle(regularCards);
             // Take the first 'deckSize' cards
             regularCards = regularCards.subList(0, deckSize);
         }
         
         // Shuffle regular cards if configured to do so
         if (configService.shouldShuffleObstacleDeck()) {
-            Collections.shuffle(regularCards);
+            random.shuffle(regularCards);
         }
         
         // Add regular cards to the deck
@@ -133,9 +198,6 @@ public class ObstacleService {
             deck.addCard(finaleCard);
         }
         
-        System.out.println("Created deck with " + deck.getAllCards().size() + " cards" + 
-                          (finaleCard != null ? " (including finale: " + finaleCard.getName() + ")" : ""));
-        
         return deck;
     }
     
@@ -143,14 +205,16 @@ public class ObstacleService {
      * Creates a difficulty-specific obstacle deck.
      * 
      * @param difficulty the maximum difficulty level to include
+     * @param random the random source of the game the deck is used in
      * @return the obstacle deck with filtered cards
      */
-    public ObstacleDeck createObstacleDeck(int difficulty) {
-        ObstacleDeck deck = new ObstacleDeck();
+    public ObstacleDeck createObstacleDeck(int difficulty, GameRandom random) {
+        ObstacleDeck deck = new ObstacleDeck(random);
         
-        // Find the finale card (nuclear core)
+        // Find the finale card (nuclear core). The cards are taken in index order, so a
+        // seed always builds the same deck
         ObstacleCard finaleCard = null;
-        for (ObstacleCard card : obstacleCards.values()) {
+        for (ObstacleCard card : obstacleList) {
             if (card.isFinale()) {
                 finaleCard = card;
                 break;
@@ -159,7 +223,7 @@ public class ObstacleService {
         
         // Get all obstacle cards that match the difficulty level or lower, except the finale
         List<ObstacleCard> matchingCards = new ArrayList<>();
-        for (ObstacleCard card : obstacleCards.values()) {
+        for (ObstacleCard card : obstacleList) {
             if (!card.isFinale() && card.getDifficulty() <= difficulty) {
                 matchingCards.add(card);
             }
@@ -171,14 +235,14 @@ public class ObstacleService {
         // If deckSize is less than matching cards, randomly select cards
         if (deckSize < matchingCards.size()) {
             // Shuffle the list to get random selection
-            Collections.shuffle(matchingCards);
+            random.shuffle(matchingCards);
             // Take the first 'deckSize' cards
             matchingCards = matchingCards.subList(0, deckSize);
         }
         
         // Shuffle matching cards if configured to do so
         if (configService.shouldShuffleObstacleDeck()) {
-            Collections.shuffle(matchingCards);
+            random.shuffle(matchingCards);
         }
         
         // Add matching cards to the deck
@@ -191,9 +255,6 @@ public class ObstacleService {
             deck.addCard(finaleCard);
         }
         
-        System.out.println("Created difficulty-filtered deck with " + deck.getAllCards().size() + " cards" + 
-                          (finaleCard != null ? " (including finale: " + finaleCard.getName() + ")" : ""));
-        
         return deck;
     }
 }
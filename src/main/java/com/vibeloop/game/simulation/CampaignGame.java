@@ -0,0 +1,120 @@
+package com.vibeloop.game.simulation;
+
+import com.vibeloop.game.ai.ExpectimaxSolver;
+import com.vibeloop.game.ai.GreedyPolicy;
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameEngine;
+import com.vibeloop.game.engine.GameOutcome;
+import com.vibeloop.game.engine.PackedGameState;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.model.Player;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays complete campaigns headlessly on the same {@link GameEngine} as the game screen.
+ *
+ * Every seat follows the {@link GreedyPolicy}, or plays the rounds chosen by an
+ * {@link ExpectimaxSolver} as a perfect-play baseline. All randomness comes from the
+ * game random passed to {@link #play(GameRandom)}, so a campaign can be replayed from its
+ * seed. A campaign game is not thread-safe; each thread should use its own instance.
+ */
+public class CampaignGame {
+    private final CardService cardService;
+    private final ObstacleService obstacleService;
+    private final Character[] lineup;
+    private final ContributionTable contributionTable;
+    private final ExpectimaxSolver solver; // Chooses the plays instead of the greedy policy, if set
+
+    private int loopsPlayed;
+    private boolean recordFinalState; // Packs the final state, e.g. when replaying a single game
+    private PackedGameState finalState;
+
+    public CampaignGame(CardService cardService, ObstacleService obstacleService,
+                        ContributionTable contributionTable, Character[] lineup) {
+        this(cardService, obstacleService, contributionTable, lineup, null);
+    }
+
+    /**
+     * Creates a campaign game whose plays are chosen by a solver.
+     *
+     * @param solver the solver, used by this game only, or null to play greedily
+     */
+    public CampaignGame(CardService cardService, ObstacleService obstacleService,
+                        ContributionTable contributionTable, Character[] lineup, ExpectimaxSolver solver) {
+        this.cardService = cardService;
+        this.obstacleService = obstacleService;
+        this.lineup = lineup.clone();
+        this.contributionTable = contributionTable;
+        this.solver = solver;
+    }
+
+    /**
+     * Plays one campaign from character selection to the end of the game.
+     *
+     * @param random the random source of the campaign
+     * @return the outcome of the campaign
+     */
+    public GameOutcome play(GameRandom random) {
+        // Set up players and decks as the character selection screen does
+        List<Player> players = new ArrayList<>(lineup.length);
+        for (int i = 0; i < lineup.length; i++) {
+            Player player = new Player(i + 1, lineup[i]);
+            player.setDeck(cardService.createStarterDeck(lineup[i].getType(), random));
+            players.add(player);
+        }
+
+        GameEngine engine = new GameEngine(players, cardService, obstacleService, contributionTable, random);
+        engine.start();
+
+        while (true) {
+            engine.advance();
+            switch (engine.getPhase()) {
+                case PLAY:
+                    engine.submit(solver != null ? solver.solve(engine).getCommand()
+                                                 : GreedyPolicy.choosePlay(engine, contributionTable));
+                    break;
+                case CARD_REMOVAL:
+                    GreedyPolicy.removeCards(engine);
+                    break;
+                default:
+                    loopsPlayed = engine.getLoop();
+                    finalState = recordFinalState ? engine.pack() : null;
+                    return engine.getOutcome();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of loops played in the last campaign, including the final one.
+     *
+     * @return the number of loops played
+     */
+    public int getLoopsPlayed() {
+        return loopsPlayed;
+    }
+
+    /**
+     * Sets whether the state each campaign ends in is packed. It is off by default, as
+     * bulk simulations do not need it.
+     *
+     * @param recordFinalState true to pack the final states
+     */
+    public void setRecordFinalState(boolean recordFinalState) {
+        this.recordFinalState = recordFinalState;
+    }
+
+    /**
+     * Gets the packed state the last campaign ended in. Replays of the same seed end in
+     * the same state, so its hash verifies a replay.
+     *
+     * @return the final state, or null if it was not recorded or does not fit a packed state
+     */
+    public PackedGameState getFinalState() {
+        return finalState;
+    }
+}
@@ -0,0 +1,128 @@
+package com.vibeloop.game.simulation;
+
+import com.vibeloop.game.ai.ExpectimaxSolver;
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameOutcome;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many simulated campaigns in parallel on a fork-join pool.
+ *
+ * The requested games are split into batches that are played by the pool's workers,
+ * each with its own {@link CampaignGame}, and the per-batch statistics are merged.
+ * Each game is seeded from the base seed and its index, so the results of a run do not
+ * depend on how the work was scheduled and any single game can be replayed.
+ */
+public class CampaignSimulator {
+    // Games played by a single task before it stops splitting
+    private static final long BATCH_SIZE = 4096;
+
+    private final CardService cardService;
+    private final ObstacleService obstacleService;
+    private final ContributionTable contributionTable;
+    private final Character[] lineup;
+    private final long baseSeed;
+    private final int solverLookahead; // Negative to play greedily
+
+    public CampaignSimulator(CardService cardService, ObstacleService obstacleService,
+                             ContributionTable contributionTable, Character[] lineup, long baseSeed) {
+        this(cardService, obstacleService, contributionTable, lineup, baseSeed, -1);
+    }
+
+    /**
+     * Creates a simulator whose games are played by an expectimax solver.
+     *
+     * @param solverLookahead the number of obstacles the solver looks ahead, or -1 to play greedily
+     */
+    public CampaignSimulator(CardService cardService, ObstacleService obstacleService,
+                             ContributionTable contributionTable, Character[] lineup, long baseSeed,
+                             int solverLookahead) {
+        this.cardService = cardService;
+        this.obstacleService = obstacleService;
+        this.contributionTable = contributionTable;
+        this.lineup = lineup.clone();
+        this.baseSeed = baseSeed;
+        this.solverLookahead = solverLookahead;
+    }
+
+    /**
+     * Simulates campaigns on the given pool.
+     *
+     * @param games the number of campaigns to simulate
+     * @param pool the pool to run the simulation on
+     * @return the combined statistics of all campaigns
+     */
+    public SimulationStats run(long games, ForkJoinPool pool) {
+        return pool.invoke(new SimulationTask(0, games));
+    }
+
+    /**
+     * Replays a single game of a run.
+     *
+     * @param index the index of the game in the run
+     * @param game the campaign game to play it with
+     * @return the outcome of the game
+     */
+    public GameOutcome replay(long index, CampaignGame game) {
+        return game.play(new GameRandom(GameRandom.seedFor(baseSeed, index)));
+    }
+
+    /**
+     * Creates a campaign game for this simulator's lineup.
+     *
+     * @return the campaign game
+     */
+    public CampaignGame createGame() {
+        ExpectimaxSolver solver = null;
+        if (solverLookahead >= 0) {
+            // A campaign is won by surviving the loop, so the solver minimizes the health lost
+            solver = new ExpectimaxSolver(contributionTable, cardService,
+                                          ExpectimaxSolver.Objective.DAMAGE, solverLookahead);
+        }
+        return new CampaignGame(cardService, obstacleService, contributionTable, lineup, solver);
+    }
+
+    /**
+     * Simulates a range of campaigns, splitting it in half until it fits in one batch.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationStats> {
+        private final long from;
+        private final long to;
+
+        SimulationTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= BATCH_SIZE) {
+                return playBatch();
+            }
+
+            long middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, middle);
+            SimulationTask right = new SimulationTask(middle, to);
+            left.fork();
+            SimulationStats stats = right.compute();
+            stats.merge(left.join());
+            return stats;
+        }
+
+        private SimulationStats playBatch() {
+            SimulationStats stats = new SimulationStats();
+            CampaignGame game = createGame();
+            for (long i = from; i < to; i++) {
+                GameOutcome outcome = replay(i, game);
+                stats.record(outcome, game.getLoopsPlayed());
+            }
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.vibeloop.game.simulation;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.engine.GameOutcome;
+import com.vibeloop.game.engine.PackedGameState;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.GameRandom;
+import com.vibeloop.game.service.CardService;
+import com.vibeloop.game.service.CharacterService;
+import com.vibeloop.game.service.ContentRepository;
+import com.vibeloop.game.service.ObstacleService;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line entry point for the campaign simulator.
+ *
+ * Usage: {@code SimulationRunner [--games N] [--lineup type,type,type,type] [--threads N]
+ * [--seed S] [--replay INDEX] [--solver LOOKAHEAD]}. With {@code --replay} only the game
+ * with that index in the run seeded with S is played, and the hash of the state it ends
+ * in is printed, if it can be packed, to compare replays. With {@code --solver} the
+ * rounds are played by the expectimax solver looking that many obstacles ahead, as a
+ * perfect-play baseline for the greedy policy.
+ */
+public class SimulationRunner {
+    private static final long DEFAULT_GAMES = 1_000_000;
+    private static final String DEFAULT_LINEUP = "engineer,scientist,pilot,soldier";
+    private static final String USAGE = "Usage: SimulationRunner [--games N] [--lineup type,type,type,type] " +
+        "[--threads N] [--seed S] [--replay INDEX] [--solver LOOKAHEAD]";
+
+    public static void main(String[] args) {
+        long games = DEFAULT_GAMES;
+        String lineupArg = DEFAULT_LINEUP;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = GameRandom.fromEntropy().getSeed();
+        long replayIndex = -1;
+        int solverLookahead = -1;
+
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 == args.length) {
+                exitWithUsage("Missing value for " + option);
+            }
+            String value = args[i + 1];
+            switch (option) {
+                case "--games":
+                    games = parseNumber(option, value, 1, Long.MAX_VALUE);
+                    break;
+                case "--lineup":
+                    lineupArg = value;
+                    break;
+                case "--threads":
+                    threads = (int) parseNumber(option, value, 1, Integer.MAX_VALUE);
+                    break;
+                case "--seed":
+                    seed = parseNumber(option, value, Long.MIN_VALUE, Long.MAX_VALUE);
+                    break;
+                case "--replay":
+                    replayIndex = parseNumber(option, value, 0, Long.MAX_VALUE);
+                    break;
+                case "--solver":
+                    solverLookahead = (int) parseNumber(option, value, 0, Integer.MAX_VALUE);
+                    break;
+                default:
+                    exitWithUsage("Unknown option: " + option);
+            }
+        }
+
+        ContentRepository content = ContentRepository.load();
+        CharacterService characterService = content.getCharacterService();
+        CardService cardService = content.getCardService();
+        ObstacleService obstacleService = content.getObstacleService();
+        ContributionTable contributionTable = new ContributionTable(characterService, cardService, obstacleService);
+
+        String[] types = lineupArg.split(",");
+        Character[] lineup = new Character[types.length];
+        for (int i = 0; i < types.length; i++) {
+            lineup[i] = characterService.getCharacter(types[i].trim());
+            if (lineup[i] == null) {
+                System.err.println("Unknown character type: " + types[i]);
+                System.exit(1);
+            }
+        }
+
+        if (solverLookahead >= 0 && lineup.length > PackedGameState.MAX_SEATS) {
+            System.err.println("The solver searches tables of up to " + PackedGameState.MAX_SEATS +
+                " seats; this lineup is played greedily");
+        }
+
+        CampaignSimulator simulator = new CampaignSimulator(cardService, obstacleService, contributionTable,
+            lineup, seed, solverLookahead);
+
+        if (replayIndex >= 0) {
+            CampaignGame game = simulator.createGame();
+            game.setRecordFinalState(true);
+            GameOutcome outcome = simulator.replay(replayIndex, game);
+            PackedGameState finalState = game.getFinalState();
+            System.out.println("Game " + replayIndex + " of seed " + seed + ": " + outcome.getDescription() +
+                " after " + game.getLoopsPlayed() + " loop(s)" + (finalState != null
+                    ? String.format(Locale.ROOT, ", final state %016x", finalState.getHash()) : ""));
+            return;
+        }
+
+        System.out.println("Simulating " + games + " campaigns for " + lineupArg + " on " + threads +
+            " threads, seed " + seed +
+            (solverLookahead >= 0 ? ", solver looking " + solverLookahead + " obstacle(s) ahead" : ""));
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run(games, pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        printReport(stats, seconds);
+    }
+
+    /**
+     * Parses the value of a numeric option, exiting with the usage if it is not a number
+     * in the given range.
+     */
+    private static long parseNumber(String option, String value, long min, long max) {
+        try {
+            long number = Long.parseLong(value);
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        exitWithUsage(option + " needs a whole number" + (min > Long.MIN_VALUE ? " of at least " + min : "") +
+            ", not " + value);
+        return min;
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+
+    private static void printReport(SimulationStats stats, double seconds) {
+        System.out.println(String.format(Locale.ROOT, "Played %d campaigns in %.2f s (%.0f games/s)",
+            stats.getGames(), seconds, stats.getGames() / seconds));
+
+        double[] winInterval = stats.getRateInterval(GameOutcome.VICTORY);
+        System.out.println(String.format(Locale.ROOT, "Win rate: %.4f (95%% CI %.4f - %.4f)",
+            stats.getRate(GameOutcome.VICTORY), winInterval[0], winInterval[1]));
+
+        double[] loopsInterval = stats.getMeanLoopsToWinInterval();
+        System.out.println(String.format(Locale.ROOT, "Mean loops to win: %.3f (95%% CI %.3f - %.3f)",
+            stats.getMeanLoopsToWin(), loopsInterval[0], loopsInterval[1]));
+
+        System.out.println("Failure causes:");
+        for (GameOutcome outcome : GameOutcome.values()) {
+            if (outcome == GameOutcome.VICTORY) {
+                continue;
+            }
+            double[] interval = stats.getRateInterval(outcome);
+            System.out.println(String.format(Locale.ROOT, "- %s: %d (%.4f, 95%% CI %.4f - %.4f)",
+                outcome.getDescription(), stats.getCount(outcome), stats.getRate(outcome),
+                interval[0], interval[1]));
+        }
+    }
+}
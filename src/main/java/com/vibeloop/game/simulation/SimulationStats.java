@@ -0,0 +1,124 @@
+package com.vibeloop.game.simulation;
+
+import com.vibeloop.game.engine.GameOutcome;
+
+/**
+ * Accumulates the outcomes of simulated campaigns.
+ *
+ * Statistics from separate batches can be merged, so each worker can keep its own
+ * instance and combine them at the end.
+ */
+public class SimulationStats {
+    // z value for a two-sided 95% confidence interval
+    private static final double Z_95 = 1.959964;
+
+    private final long[] outcomeCounts = new long[GameOutcome.values().length];
+    private long games;
+    private long loopsToWinSum;
+    private long loopsToWinSquareSum;
+
+    /**
+     * Records the outcome of one campaign.
+     *
+     * @param outcome the outcome of the campaign
+     * @param loopsPlayed the number of loops played, including the final one
+     */
+    public void record(GameOutcome outcome, int loopsPlayed) {
+        games++;
+        outcomeCounts[outcome.ordinal()]++;
+        if (outcome == GameOutcome.VICTORY) {
+            loopsToWinSum += loopsPlayed;
+            loopsToWinSquareSum += (long) loopsPlayed * loopsPlayed;
+        }
+    }
+
+    /**
+     * Adds the statistics of another batch to this one.
+     *
+     * @param other the statistics to add
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        loopsToWinSum += other.loopsToWinSum;
+        loopsToWinSquareSum += other.loopsToWinSquareSum;
+        for (int i = 0; i < outcomeCounts.length; i++) {
+            outcomeCounts[i] += other.outcomeCounts[i];
+        }
+    }
+
+    /**
+     * Gets the number of campaigns recorded.
+     *
+     * @return the number of campaigns
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of campaigns that ended with the given outcome.
+     *
+     * @param outcome the outcome
+     * @return the number of campaigns with that outcome
+     */
+    public long getCount(GameOutcome outcome) {
+        return outcomeCounts[outcome.ordinal()];
+    }
+
+    /**
+     * Gets the fraction of campaigns that ended with the given outcome.
+     *
+     * @param outcome the outcome
+     * @return the rate of the outcome, or 0 if no campaigns were recorded
+     */
+    public double getRate(GameOutcome outcome) {
+        return games == 0 ? 0 : (double) getCount(outcome) / games;
+    }
+
+    /**
+     * Gets the 95% Wilson score interval for the rate of an outcome.
+     *
+     * @param outcome the outcome
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] getRateInterval(GameOutcome outcome) {
+        if (games == 0) {
+            return new double[]{0, 1};
+        }
+
+        double n = games;
+        double p = getRate(outcome);
+        double zSquared = Z_95 * Z_95;
+        double denominator = 1 + zSquared / n;
+        double center = (p + zSquared / (2 * n)) / denominator;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + zSquared / (4 * n * n)) / denominator;
+        return new double[]{Math.max(0, center - margin), Math.min(1, center + margin)};
+    }
+
+    /**
+     * Gets the mean number of loops needed to win, over the campaigns that were won.
+     *
+     * @return the mean loops to win, or 0 if no campaign was won
+     */
+    public double getMeanLoopsToWin() {
+        long wins = getCount(GameOutcome.VICTORY);
+        return wins == 0 ? 0 : (double) loopsToWinSum / wins;
+    }
+
+    /**
+     * Gets the 95% confidence interval for the mean number of loops needed to win.
+     *
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] getMeanLoopsToWinInterval() {
+        long wins = getCount(GameOutcome.VICTORY);
+        double mean = getMeanLoopsToWin();
+        if (wins < 2) {
+            return new double[]{mean, mean};
+        }
+
+        double variance = (loopsToWinSquareSum - wins * mean * mean) / (wins - 1);
+        double margin = Z_95 * Math.sqrt(Math.max(0, variance) / wins);
+        return new double[]{mean - margin, mean + margin};
+    }
+}
@@ -18,11 +18,17 @@ import javafx.scene.text.FontWeight;
  * Panel for selecting a character for a player.
  */
 public class CharacterSelectionPanel extends VBox {
+    // Size of the character portrait
+    static final double PORTRAIT_SIZE = 120;
+    
     private final Player player;
+    private final PlayerProperties playerProperties; // Held here, as bidirectional bindings are weak
     private final CharacterService characterService;
+    private final ImageCache imageCache;
     private final ImageView characterImageView;
     private final Label characterNameLabel;
     private final TextField playerNameField;
+    private final CheckBox botCheckBox;
     private final ProgressBar strengthBar;
     private final ProgressBar speedBar;
     private final ProgressBar techBar;
@@ -30,27 +36,35 @@ public class CharacterSelectionPanel extends VBox {
     
     private String currentCharacterType;
 
-    public CharacterSelectionPanel(Player player, CharacterService characterService) {
+    public CharacterSelectionPanel(Player player, CharacterService characterService, ImageCache imageCache) {
         this.player = player;
+        this.playerProperties = new PlayerProperties(player);
         this.characterService = characterService;
+        this.imageCache = imageCache;
         this.currentCharacterType = player.getSelectedCharacter().getType();
         
         // Panel configuration
         setPadding(new Insets(15));
         setSpacing(10);
         setPrefSize(300, 400);
-        setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-background-radius: 10;");
+        getStyleClass().add("selection-panel");
         
         // Player name field
         playerNameField = new TextField(player.getName());
-        playerNameField.textProperty().bindBidirectional(player.nameProperty());
+        playerNameField.textProperty().bindBidirectional(playerProperties.nameProperty());
         playerNameField.setMaxWidth(200);
         playerNameField.setPromptText("Enter name");
         
+        // Let the computer play this seat
+        botCheckBox = new CheckBox("Computer player");
+        botCheckBox.setTextFill(Color.WHITE);
+        botCheckBox.setSelected(player.isBot());
+        botCheckBox.selectedProperty().addListener((obs, oldValue, newValue) -> player.setBot(newValue));
+        
         // Character image view
         characterImageView = new ImageView();
-        characterImageView.setFitHeight(120);
-        characterImageView.setFitWidth(120);
+        characterImageView.setFitHeight(PORTRAIT_SIZE);
+        characterImageView.setFitWidth(PORTRAIT_SIZE);
         characterImageView.setPreserveRatio(true);
         
         // Arrow buttons for selecting characters
@@ -86,6 +100,7 @@ public class CharacterSelectionPanel extends VBox {
         // Add all components to the panel
         getChildren().addAll(
             playerNameField,
+            botCheckBox,
             arrowButtonsBox,
             characterNameLabel,
             statsBox
@@ -105,7 +120,7 @@ public class CharacterSelectionPanel extends VBox {
         
         ProgressBar progressBar = new ProgressBar(0);
         progressBar.setMaxWidth(Double.MAX_VALUE);
-        progressBar.setStyle("-fx-accent: #59e287;");
+        progressBar.getStyleClass().add("stat-bar");
         
         HBox statBox = new HBox(10, statLabel, progressBar);
         statBox.setAlignment(Pos.CENTER_LEFT);
@@ -123,7 +138,7 @@ public class CharacterSelectionPanel extends VBox {
         // Update character image
         try {
             String imagePath = character.getImagePath();
-            Image image = new Image(getClass().getResourceAsStream(imagePath));
+            Image image = imageCache.require(imagePath, PORTRAIT_SIZE, PORTRAIT_SIZE, true);
             characterImageView.setImage(image);
         } catch (Exception e) {
             System.err.println("Error loading character image: " + e.getMessage());
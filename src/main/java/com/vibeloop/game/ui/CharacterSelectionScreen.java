@@ -1,9 +1,12 @@
 package com.vibeloop.game.ui;
 
+import com.vibeloop.game.ai.MctsBot;
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.model.GameRandom;
 import com.vibeloop.game.model.Player;
 import com.vibeloop.game.service.CardService;
 import com.vibeloop.game.service.CharacterService;
-import com.vibeloop.game.service.ObstacleService;
+import com.vibeloop.game.service.ContentRepository;
 import com.vibeloop.game.ui.GameScreen;
 
 import javafx.geometry.Insets;
@@ -30,16 +33,23 @@ import java.util.List;
  */
 public class CharacterSelectionScreen {
     private final Stage stage;
+    private final ContentRepository content;
     private final CharacterService characterService;
     private final CardService cardService;
-    private final ObstacleService obstacleService;
+    private final ContributionTable contributionTable;
+    private final ImageCache imageCache;
+    private final MctsBot bot;
     private final List<Player> players;
     
-    public CharacterSelectionScreen(Stage stage, CharacterService characterService, CardService cardService, ObstacleService obstacleService) {
+    public CharacterSelectionScreen(Stage stage, ContentRepository content, ContributionTable contributionTable,
+                                    ImageCache imageCache, MctsBot bot) {
         this.stage = stage;
-        this.characterService = characterService;
-        this.cardService = cardService;
-        this.obstacleService = obstacleService;
+        this.content = content;
+        this.characterService = content.getCharacterService();
+        this.cardService = content.getCardService();
+        this.contributionTable = contributionTable;
+        this.imageCache = imageCache;
+        this.bot = bot;
         this.players = new ArrayList<>();
         
         // Initialize players with default characters (including new types)
@@ -56,7 +66,7 @@ public class CharacterSelectionScreen {
         // Load background image
         Image backgroundImage = null;
         try {
-            backgroundImage = new Image(getClass().getResourceAsStream("/station.jpg"));
+            backgroundImage = imageCache.require("/station.jpg", 0, 0);
         } catch (Exception e) {
             System.err.println("Error loading background image: " + e.getMessage());
         }
@@ -97,10 +107,10 @@ public class CharacterSelectionScreen {
         grid.setPadding(new Insets(20));
         
         // Add character selection panel for each player
-        grid.add(new CharacterSelectionPanel(players.get(0), characterService), 0, 0);
-        grid.add(new CharacterSelectionPanel(players.get(1), characterService), 1, 0);
-        grid.add(new CharacterSelectionPanel(players.get(2), characterService), 0, 1);
-        grid.add(new CharacterSelectionPanel(players.get(3), characterService), 1, 1);
+        grid.add(new CharacterSelectionPanel(players.get(0), characterService, imageCache), 0, 0);
+        grid.add(new CharacterSelectionPanel(players.get(1), characterService, imageCache), 1, 0);
+        grid.add(new CharacterSelectionPanel(players.get(2), characterService, imageCache), 0, 1);
+        grid.add(new CharacterSelectionPanel(players.get(3), characterService, imageCache), 1, 1);
         
         uiPanel.setCenter(grid);
         
@@ -108,7 +118,7 @@ public class CharacterSelectionScreen {
         Button startButton = new Button("Start Game");
         startButton.setFont(Font.font("System", FontWeight.BOLD, 18));
         startButton.setPrefSize(200, 50);
-        startButton.setStyle("-fx-background-color: #4287f5; -fx-text-fill: white; -fx-background-radius: 10;");
+        startButton.getStyleClass().add("primary-button");
         startButton.setOnAction(e -> startGame());
         
         StackPane footer = new StackPane(startButton);
@@ -120,6 +130,7 @@ public class CharacterSelectionScreen {
         
         // Create and display the scene
         Scene scene = new Scene(root, 1024, 768);
+        Theme.apply(scene);
         stage.setTitle("VibeLoop Game - Character Selection");
         stage.setScene(scene);
         stage.setFullScreen(true);
@@ -129,10 +140,19 @@ public class CharacterSelectionScreen {
      * Starts the game with the selected characters.
      */
     private void startGame() {
+        // Every shuffle and reward in the game comes from one seeded random source.
+        // Pass -Dvibeloop.seed=<seed> to replay a game from a bug report. Computer players
+        // search for a time budget, so their moves can differ between runs of the same seed.
+        Long seedOverride = Long.getLong("vibeloop.seed");
+        GameRandom random = seedOverride != null ? new GameRandom(seedOverride) : GameRandom.fromEntropy();
+        boolean anyBot = players.stream().anyMatch(Player::isBot);
+        System.out.println("Game seed: " + random.getSeed() +
+            (anyBot ? " (the moves of computer players are timed and not reproducible from the seed)" : ""));
+        
         // Initialize decks for players based on their character type
         for (Player player : players) {
             String characterType = player.getSelectedCharacter().getType();
-            player.setDeck(cardService.createStarterDeck(characterType));
+            player.setDeck(cardService.createStarterDeck(characterType, random));
         }
         
         // Log player information (for debugging)
@@ -145,7 +165,7 @@ public class CharacterSelectionScreen {
         }
         
         // Create and show the game screen
-        GameScreen gameScreen = new GameScreen(stage, players, obstacleService);
+        GameScreen gameScreen = new GameScreen(stage, players, content, contributionTable, imageCache, bot, random);
         gameScreen.show();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.engine.ContributionTable;
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Shows the hand of one player.
+ *
+ * The view keeps one node per card in the hand and reconciles it with the hand on every
+ * update: nodes are only created for cards that entered the hand and removed for cards
+ * that left it, and the compatibility and clickable state of the remaining nodes is only
+ * touched when it changes.
+ */
+public class HandView extends FlowPane {
+    private static final String CARD_BACK_PATH = "/cards/card_back.jpg";
+
+    private final Character character;
+    private final ContributionTable contributionTable;
+    private final ImageCache imageCache;
+    private final StatBadges statBadges;
+    private final Function<Card, Tooltip> tooltipFactory;
+    private final Consumer<Card> onPlay;
+    private final double cardWidth;
+    private final double cardHeight;
+
+    // Scratch list for reconciling, reused between updates
+    private final List<CardNode> unmatched = new ArrayList<>();
+
+    /**
+     * Creates a hand view.
+     *
+     * @param character the character of the player holding the hand
+     * @param contributionTable the table deciding which cards are compatible
+     * @param imageCache the cache for the card art
+     * @param statBadges the shared stat badge images
+     * @param tooltipFactory creates the tooltip of a card
+     * @param onPlay called when a playable card is clicked
+     * @param cardWidth the width of a card
+     * @param cardHeight the height of a card
+     */
+    public HandView(Character character, ContributionTable contributionTable, ImageCache imageCache,
+                    StatBadges statBadges, Function<Card, Tooltip> tooltipFactory, Consumer<Card> onPlay,
+                    double cardWidth, double cardHeight) {
+        this.character = character;
+        this.contributionTable = contributionTable;
+        this.imageCache = imageCache;
+        this.statBadges = statBadges;
+        this.tooltipFactory = tooltipFactory;
+        this.onPlay = onPlay;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+    }
+
+    /**
+     * Updates the view to show the given hand.
+     *
+     * @param hand the cards in the hand
+     * @param obstacle the current obstacle, or null if there is none
+     * @param playable whether the cards can be played now
+     */
+    public void update(List<Card> hand, ObstacleCard obstacle, boolean playable) {
+        // Match the cards in the hand with the existing nodes; copies of a card each get their own node
+        unmatched.clear();
+        for (Node node : getChildren()) {
+            unmatched.add((CardNode) node);
+        }
+
+        List<Card> entered = null;
+        for (int i = 0; i < hand.size(); i++) {
+            Card card = hand.get(i);
+            CardNode match = null;
+            for (int j = 0; j < unmatched.size(); j++) {
+                if (unmatched.get(j).card == card) {
+                    match = unmatched.remove(j);
+                    break;
+                }
+            }
+            if (match == null) {
+                if (entered == null) {
+                    entered = new ArrayList<>();
+                }
+                entered.add(card);
+            }
+        }
+
+        // Cards that left the hand keep no node; cards that entered get one at the end
+        if (!unmatched.isEmpty()) {
+            getChildren().removeAll(unmatched);
+            unmatched.clear();
+        }
+        if (entered != null) {
+            for (Card card : entered) {
+                getChildren().add(new CardNode(card));
+            }
+        }
+
+        for (Node node : getChildren()) {
+            CardNode cardNode = (CardNode) node;
+            boolean compatible = obstacle == null ||
+                contributionTable.getContribution(character, cardNode.card, obstacle) > 0;
+            cardNode.update(compatible, obstacle, playable && obstacle != null);
+        }
+    }
+
+    /**
+     * The node of one card in the hand.
+     */
+    private class CardNode extends StackPane {
+        private final Card card;
+        private final Node cardVisual;
+        private final String imagePath;
+        private Label incompatibleLabel;
+        private boolean compatible = true;
+        private boolean playable;
+        private String incompatibleType;
+
+        CardNode(Card card) {
+            this.card = card;
+            getStyleClass().add("hand-card");
+            pseudoClassStateChanged(Theme.COMPATIBLE, true);
+            setAlignment(Pos.BOTTOM_RIGHT);
+
+            ImageView indicator = statBadges.createBadge(card.getStatType(), StatBadges.SMALL);
+
+            // Use the card art, or the card back or a placeholder with the card name
+            Image image = card.getImagePath() != null ? imageCache.get(card.getImagePath(), cardWidth, cardHeight) : null;
+            if (image != null) {
+                imagePath = card.getImagePath();
+                cardVisual = createImageView(image);
+                getChildren().addAll(cardVisual, indicator);
+            } else {
+                Image backImage = imageCache.get(CARD_BACK_PATH, cardWidth, cardHeight);
+                if (backImage != null) {
+                    imagePath = CARD_BACK_PATH;
+                    cardVisual = createImageView(backImage);
+                } else {
+                    imagePath = null;
+                    Rectangle placeholder = new Rectangle(cardWidth, cardHeight);
+                    placeholder.setFill(Color.GRAY.deriveColor(0, 1, 1, 0.3));
+                    placeholder.setStroke(Color.WHITE);
+                    cardVisual = placeholder;
+                }
+
+                Text cardNameText = new Text(card.getName());
+                cardNameText.setFill(Color.WHITE);
+                cardNameText.setFont(Font.font("System", FontWeight.BOLD, 10));
+                cardNameText.setWrappingWidth(cardWidth - 10);
+                cardNameText.setTextAlignment(TextAlignment.CENTER);
+                getChildren().addAll(cardVisual, cardNameText, indicator);
+            }
+
+            Tooltip.install(this, tooltipFactory.apply(card));
+
+            // The handler stays installed; it only plays the card while the card is playable
+            setOnMouseClicked(event -> {
+                if (playable) {
+                    onPlay.accept(card);
+                }
+            });
+        }
+
+        /**
+         * Updates the compatibility and clickable state, touching the scene graph only on changes.
+         * The theme styles the states through the pseudo-classes.
+         */
+        void update(boolean compatible, ObstacleCard obstacle, boolean playable) {
+            if (this.playable != playable) {
+                this.playable = playable;
+                pseudoClassStateChanged(Theme.PLAYABLE, playable);
+            }
+
+            if (this.compatible != compatible) {
+                this.compatible = compatible;
+                pseudoClassStateChanged(Theme.COMPATIBLE, compatible);
+                pseudoClassStateChanged(Theme.INCOMPATIBLE, !compatible);
+                // Gray out the art of incompatible cards with the shared dimmed variant, not a per-node effect
+                if (imagePath != null) {
+                    ((ImageView) cardVisual).setImage(compatible
+                        ? imageCache.get(imagePath, cardWidth, cardHeight)
+                        : imageCache.getDimmed(imagePath, cardWidth, cardHeight));
+                }
+                if (!compatible && incompatibleLabel == null) {
+                    incompatibleLabel = createIncompatibleLabel();
+                    getChildren().add(incompatibleLabel);
+                }
+            }
+
+            if (!compatible && !obstacle.getType().equals(incompatibleType)) {
+                incompatibleType = obstacle.getType();
+                incompatibleLabel.getTooltip().setText("Not compatible with " + incompatibleType + " obstacles");
+            }
+        }
+
+        private ImageView createImageView(Image image) {
+            ImageView imageView = new ImageView(image);
+            imageView.setFitWidth(cardWidth);
+            imageView.setFitHeight(cardHeight);
+            return imageView;
+        }
+
+        private Label createIncompatibleLabel() {
+            Label label = new Label("!");
+            label.getStyleClass().add("incompatible-marker");
+            label.setTranslateX(-cardWidth / 2 + 8);
+            label.setTranslateY(-cardHeight / 2 + 8);
+            label.setTooltip(new Tooltip());
+            return label;
+        }
+    }
+}
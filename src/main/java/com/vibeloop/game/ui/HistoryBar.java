@@ -0,0 +1,167 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleResult;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Shows completed obstacles, oldest first.
+ *
+ * The entries are shown in a horizontal list view, which only creates cells for the entries
+ * on screen and reuses them while scrolling, so a long session costs no more nodes than a
+ * short one. Appending a result only lays out the new entry.
+ */
+public class HistoryBar extends VBox {
+    private static final double MINI_SCALE = 0.7;
+    private static final double ENTRY_SPACING = 5;
+
+    private final ImageCache imageCache;
+    private final TooltipCache tooltipCache;
+    private final double cardWidth;
+    private final double miniWidth;
+    private final double miniHeight;
+    private final boolean showLoops;
+    private final ListView<ObstacleResult> historyList;
+
+    /**
+     * Creates the history bar.
+     *
+     * @param entries the results to show; the bar follows changes to the list
+     * @param showLoops whether the entries span several time loops
+     * @param imageCache the cache for the obstacle art
+     * @param tooltipCache the shared obstacle tooltips
+     * @param cardWidth the width of a card; entries are shown smaller
+     * @param cardHeight the height of a card; entries are shown smaller
+     */
+    public HistoryBar(ObservableList<ObstacleResult> entries, boolean showLoops, ImageCache imageCache,
+                      TooltipCache tooltipCache, double cardWidth, double cardHeight) {
+        super(5);
+        this.imageCache = imageCache;
+        this.tooltipCache = tooltipCache;
+        this.showLoops = showLoops;
+        this.cardWidth = cardWidth;
+        this.miniWidth = cardWidth * MINI_SCALE;
+        this.miniHeight = cardHeight * MINI_SCALE;
+
+        setPadding(new Insets(5, 10, 15, 10));
+        setAlignment(Pos.CENTER);
+        setMaxWidth(750); // Set a max width
+        getStyleClass().add("history-bar");
+
+        Label historyLabel = new Label(showLoops ? "Obstacle History" : "Obstacle History (Current Loop)");
+        historyLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
+        historyLabel.setTextFill(Color.WHITE);
+
+        Label emptyLabel = new Label(showLoops ? "No obstacles completed yet" : "No obstacles completed yet in this loop");
+        emptyLabel.setTextFill(Color.LIGHTGRAY);
+
+        // Create scrollable history bar
+        historyList = new ListView<>(entries);
+        historyList.setOrientation(Orientation.HORIZONTAL);
+        historyList.setFixedCellSize(miniWidth + 4 + ENTRY_SPACING);
+        historyList.setPrefHeight(cardHeight * 0.8 + 20); // Slightly smaller than cards
+        historyList.setMinWidth(600); // Set a reasonable minimum width
+        historyList.setMaxWidth(700); // Set a maximum width
+        historyList.setFocusTraversable(false);
+        historyList.setPlaceholder(emptyLabel);
+        historyList.getStyleClass().add("history-list");
+        historyList.setCellFactory(list -> new HistoryCell());
+
+        // Auto-scroll to the right to show latest entry
+        entries.addListener((ListChangeListener<ObstacleResult>) change -> {
+            if (!entries.isEmpty()) {
+                historyList.scrollTo(entries.size() - 1);
+            }
+        });
+
+        getChildren().addAll(historyLabel, historyList);
+    }
+
+    /**
+     * A reusable cell showing one completed obstacle. The cell keeps its nodes and only
+     * swaps the image, loop, border color and tooltip when it is given another result.
+     */
+    private class HistoryCell extends ListCell<ObstacleResult> {
+        private final StackPane obstaclePane;
+        private final ImageView miniImage;
+        private final Rectangle placeholder;
+        private final Text nameText;
+        private final Text loopText;
+        private final Rectangle border;
+
+        HistoryCell() {
+            getStyleClass().add("history-cell");
+            setAlignment(Pos.CENTER_LEFT);
+
+            miniImage = new ImageView();
+            miniImage.setFitWidth(miniWidth);
+            miniImage.setFitHeight(miniHeight);
+
+            // Placeholder with the obstacle name, used if the image can't be loaded
+            placeholder = new Rectangle(miniWidth, miniHeight);
+            placeholder.setFill(Color.GRAY.deriveColor(0, 1, 1, 0.3));
+
+            nameText = new Text();
+            nameText.setFill(Color.WHITE);
+            nameText.setFont(Font.font("System", FontWeight.BOLD, 9));
+            nameText.setWrappingWidth(cardWidth * 0.6);
+            nameText.setTextAlignment(TextAlignment.CENTER);
+
+            // Border with color based on result
+            border = new Rectangle(miniWidth + 4, miniHeight + 4, Color.TRANSPARENT);
+            border.setStrokeWidth(2);
+
+            // The loop is shown on the entry, so the shared tooltips do not depend on it
+            loopText = new Text();
+            loopText.setFill(Color.LIGHTBLUE);
+            loopText.setFont(Font.font("System", FontWeight.BOLD, 9));
+            loopText.setVisible(showLoops);
+            StackPane.setAlignment(loopText, Pos.TOP_LEFT);
+            StackPane.setMargin(loopText, new Insets(4));
+
+            obstaclePane = new StackPane(miniImage, placeholder, nameText, loopText, border);
+        }
+
+        @Override
+        protected void updateItem(ObstacleResult result, boolean empty) {
+            super.updateItem(result, empty);
+            setText(null);
+            if (empty || result == null) {
+                setGraphic(null);
+                setTooltip(null);
+                return;
+            }
+
+            ObstacleCard obstacle = result.getObstacle();
+            Image image = imageCache.get(obstacle.getImagePath(), miniWidth, miniHeight);
+            miniImage.setImage(image);
+            miniImage.setVisible(image != null);
+            placeholder.setVisible(image == null);
+            nameText.setVisible(image == null);
+            nameText.setText(obstacle.getName());
+            loopText.setText("Loop " + result.getLoop());
+            border.setStroke(result.isSucceeded() ? Color.GREEN : Color.RED);
+
+            setGraphic(obstaclePane);
+            setTooltip(tooltipCache.getObstacleTooltip(result));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.vibeloop.game.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Shared cache of decoded images for card, character and obstacle art.
+ *
+ * Images are keyed by resource path and requested size, and are decoded at that size so
+ * a thumbnail does not keep a full-size JPEG in memory. The cache evicts the least recently
+ * used images once the decoded pixels exceed its memory budget. Missing resources are
+ * remembered too, so probing several possible paths stays cheap. Scaled images are loaded
+ * through a {@link ThumbnailStore}, so later runs skip decoding the full JPEGs. The cache
+ * is thread-safe so images can be preloaded in the background; decoding happens outside
+ * the lock, so a lookup on the JavaFX application thread never waits for a decode on
+ * another thread.
+ */
+public class ImageCache {
+    // Bytes per decoded pixel (32-bit ARGB)
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maxBytes;
+    private final ThumbnailStore thumbnailStore;
+    private final Map<String, Image> images = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an image cache.
+     *
+     * @param maxBytes the memory budget for decoded images, in bytes
+     * @param thumbnailStore the store for scaled images
+     */
+    public ImageCache(long maxBytes, ThumbnailStore thumbnailStore) {
+        this.maxBytes = maxBytes;
+        this.thumbnailStore = thumbnailStore;
+    }
+
+    /**
+     * Gets an image at its natural size.
+     *
+     * @param path the resource path of the image
+     * @return the image, or null if the resource does not exist
+     */
+    public Image get(String path) {
+        return get(path, 0, 0);
+    }
+
+    /**
+     * Gets an image decoded at the given size, as shown by an image view that stretches
+     * the image to its fit width and height.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at, or 0 for the natural width
+     * @param height the height to decode at, or 0 for the natural height
+     * @return the image, or null if the resource does not exist or cannot be decoded
+     */
+    public Image get(String path, double width, double height) {
+        return get(path, width, height, false);
+    }
+
+    /**
+     * Gets an image decoded at the given size.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at, or 0 for the natural width
+     * @param height the height to decode at, or 0 for the natural height
+     * @param preserveRatio whether to fit the image within the size keeping its aspect ratio
+     * @return the image, or null if the resource does not exist or cannot be decoded
+     */
+    public Image get(String path, double width, double height, boolean preserveRatio) {
+        String key = path + "@" + width + "x" + height + (preserveRatio ? "r" : "");
+        return get(key, () -> load(path, width, height, preserveRatio));
+    }
+
+    /**
+     * Gets a dimmed variant of an image decoded at the given size, with half its saturation
+     * and half its brightness. The variant is rendered once and shared, so views can swap
+     * images instead of giving every node its own color adjustment effect.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at, or 0 for the natural width
+     * @param height the height to decode at, or 0 for the natural height
+     * @return the dimmed image, or null if the resource does not exist or cannot be decoded
+     */
+    public Image getDimmed(String path, double width, double height) {
+        String key = path + "@" + width + "x" + height + "#dimmed";
+        return get(key, () -> {
+            Image source = get(path, width, height);
+            return source != null ? dim(source) : null;
+        });
+    }
+
+    /**
+     * Gets an image decoded at the given size, failing if it cannot be loaded.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at, or 0 for the natural width
+     * @param height the height to decode at, or 0 for the natural height
+     * @return the image
+     * @throws IllegalArgumentException if the resource does not exist or cannot be decoded
+     */
+    public Image require(String path, double width, double height) {
+        return require(path, width, height, false);
+    }
+
+    /**
+     * Gets an image decoded at the given size, failing if it cannot be loaded.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at, or 0 for the natural width
+     * @param height the height to decode at, or 0 for the natural height
+     * @param preserveRatio whether to fit the image within the size keeping its aspect ratio
+     * @return the image
+     * @throws IllegalArgumentException if the resource does not exist or cannot be decoded
+     */
+    public Image require(String path, double width, double height, boolean preserveRatio) {
+        Image image = get(path, width, height, preserveRatio);
+        if (image == null) {
+            throw new IllegalArgumentException("Image not found: " + path);
+        }
+        return image;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to load the image.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of images evicted to stay within the memory budget.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the estimated memory used by the cached images.
+     *
+     * @return the used memory, in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImageCache[" + images.size() + " entries, " + (usedBytes / 1024) + " KB, " +
+            hits + " hits, " + misses + " misses, " + evictions + " evictions]";
+    }
+
+    private Image get(String key, Supplier<Image> loader) {
+        synchronized (this) {
+            Image image = images.get(key);
+            if (image != null || images.containsKey(key)) {
+                hits++;
+                return image;
+            }
+            misses++;
+        }
+
+        Image image = loader.get();
+        synchronized (this) {
+            // Another thread may have loaded the same image meanwhile; keep the first one
+            if (images.containsKey(key)) {
+                return images.get(key);
+            }
+            images.put(key, image);
+            if (image != null) {
+                usedBytes += sizeOf(image);
+                evict();
+            }
+        }
+        return image;
+    }
+
+    private Image load(String path, double width, double height, boolean preserveRatio) {
+        if (width > 0 && height > 0) {
+            return thumbnailStore.load(path, width, height, preserveRatio);
+        }
+
+        try (InputStream is = getClass().getResourceAsStream(path)) {
+            if (is == null) {
+                return null;
+            }
+            Image image = new Image(is, width, height, preserveRatio, true);
+            if (image.isError()) {
+                System.err.println("Error decoding image " + path + ": " + image.getException());
+                return null;
+            }
+            return image;
+        } catch (IOException e) {
+            System.err.println("Error loading image " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Evicts the least recently used images until the cache is within its budget.
+     * The most recently added image is always kept.
+     */
+    private void evict() {
+        Iterator<Image> iterator = images.values().iterator();
+        while (usedBytes > maxBytes && images.size() > 1 && iterator.hasNext()) {
+            Image image = iterator.next();
+            iterator.remove();
+            if (image != null) {
+                usedBytes -= sizeOf(image);
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Renders an image with half its saturation and half its brightness, as the color
+     * adjustment effect previously applied to incompatible cards did. In HSB terms each
+     * channel moves halfway towards the brightest channel, then all are halved.
+     */
+    private static Image dim(Image source) {
+        int width = (int) source.getWidth();
+        int height = (int) source.getHeight();
+        int[] pixels = new int[width * height];
+        source.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        for (int i = 0; i < pixels.length; i++) {
+            int argb = pixels[i];
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int max = Math.max(r, Math.max(g, b));
+            r = (max + r) / 4;
+            g = (max + g) / 4;
+            b = (max + b) / 4;
+            pixels[i] = (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+        }
+
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return image;
+    }
+
+    private static long sizeOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
@@ -0,0 +1,68 @@
+package com.vibeloop.game.ui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Shows the current time loop and the progress made in it.
+ */
+public class LoopInfoView extends HBox {
+    private final Label loopLabel;
+    private final Label requiredLabel;
+    private final Label progressLabel;
+
+    /**
+     * Creates the loop information view.
+     */
+    public LoopInfoView() {
+        super(10);
+        setAlignment(Pos.CENTER);
+        setPadding(new Insets(5));
+        getStyleClass().add("loop-info");
+
+        loopLabel = new Label();
+        loopLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        loopLabel.setTextFill(Color.LIGHTBLUE);
+
+        requiredLabel = new Label();
+        requiredLabel.setFont(Font.font("System", 14));
+        requiredLabel.setTextFill(Color.LIGHTYELLOW);
+
+        progressLabel = new Label();
+        progressLabel.setFont(Font.font("System", 14));
+        progressLabel.setTextFill(Color.LIGHTYELLOW);
+
+        getChildren().addAll(loopLabel, requiredLabel, progressLabel);
+    }
+
+    /**
+     * Updates the view. Labels whose text does not change are left alone.
+     *
+     * @param currentLoop the current time loop, starting at 1
+     * @param maxObstaclesPassed the most obstacles encountered in a previous loop
+     * @param encountered the obstacles encountered in the current loop
+     * @param successful the obstacles overcome in the current loop
+     */
+    public void update(int currentLoop, int maxObstaclesPassed, int encountered, int successful) {
+        loopLabel.setText("Time Loop: " + currentLoop);
+
+        // Show the progress requirement if not the first loop
+        boolean showRequired = currentLoop > 1;
+        if (requiredLabel.isVisible() != showRequired) {
+            requiredLabel.setVisible(showRequired);
+            requiredLabel.setManaged(showRequired);
+        }
+        if (showRequired) {
+            requiredLabel.setText("Required Progress: " + (maxObstaclesPassed + 1) +
+                                  " obstacles (previous: " + maxObstaclesPassed + ")");
+            progressLabel.setText("Current: " + encountered + " encountered (" + successful + " successful)");
+        } else {
+            progressLabel.setText("Obstacles: " + encountered + " encountered (" + successful + " successful)");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.ObstacleResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Bounded history of obstacle results, oldest first.
+ *
+ * The results are kept in a ring buffer: once it is full, recording a result drops the
+ * oldest one, so the history of an endless session stays within a fixed size and
+ * recording never copies the entries. The history is an observable list, so a list view
+ * can show it directly and only update the entries that changed.
+ */
+public class ObstacleHistory extends ObservableListBase<ObstacleResult> {
+    private final ObstacleResult[] entries;
+    private int head; // Index of the oldest entry
+    private int size;
+
+    /**
+     * Creates an empty history.
+     *
+     * @param capacity the most results to keep
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ObstacleHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive: " + capacity);
+        }
+        this.entries = new ObstacleResult[capacity];
+    }
+
+    /**
+     * Records a result, dropping the oldest one if the history is full.
+     *
+     * @param result the result to record
+     * @return always true
+     */
+    @Override
+    public boolean add(ObstacleResult result) {
+        beginChange();
+        if (size == entries.length) {
+            ObstacleResult dropped = entries[head];
+            entries[head] = result;
+            head = (head + 1) % entries.length;
+            nextRemove(0, dropped);
+        } else {
+            entries[(head + size) % entries.length] = result;
+            size++;
+        }
+        nextAdd(size - 1, size);
+        endChange();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        List<ObstacleResult> removed = new ArrayList<>(this);
+        Arrays.fill(entries, null);
+        head = 0;
+        size = 0;
+
+        beginChange();
+        nextRemove(0, removed);
+        endChange();
+    }
+
+    @Override
+    public ObstacleResult get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return entries[(head + index) % entries.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the most results the history keeps.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,202 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleType;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Shows the current obstacle: its title, image and details, with the requirement
+ * gauges for the cards played against it.
+ *
+ * The nodes are created once and updated in place when the obstacle changes, which
+ * happens once per round; the gauges are updated separately after every turn.
+ */
+public class ObstacleView extends VBox {
+    // Obstacle art is shown larger than a card, and the finale larger still
+    static final double IMAGE_SCALE = 2;
+    static final double FINALE_IMAGE_SCALE = 3;
+
+    private final ImageCache imageCache;
+    private final RequirementGauges gauges;
+    private final double cardWidth;
+    private final double cardHeight;
+
+    private final Label titleLabel;
+    private final VBox obstacleBox;
+    private final ImageView imageView;
+    private final Rectangle placeholder;
+    private final DropShadow finaleGlow;
+    private final Label nameLabel;
+    private final Label difficultyLabel;
+    private final Label typeLabel;
+    private final Label skillsLabel;
+    private final Label descriptionLabel;
+
+    private ObstacleCard obstacle;
+    private Boolean finale;
+
+    /**
+     * Creates the obstacle view.
+     *
+     * @param imageCache the cache for the obstacle art
+     * @param gauges the requirement gauges to show with the obstacle
+     * @param cardWidth the width of a card; the obstacle is shown at a multiple of it
+     * @param cardHeight the height of a card; the obstacle is shown at a multiple of it
+     */
+    public ObstacleView(ImageCache imageCache, RequirementGauges gauges, double cardWidth, double cardHeight) {
+        super(10);
+        setAlignment(Pos.CENTER);
+        this.imageCache = imageCache;
+        this.gauges = gauges;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+
+        titleLabel = new Label();
+
+        obstacleBox = new VBox(10);
+        obstacleBox.getStyleClass().add("obstacle-box");
+        obstacleBox.setAlignment(Pos.CENTER);
+        obstacleBox.setPadding(new Insets(10));
+
+        imageView = new ImageView();
+        placeholder = new Rectangle();
+
+        // Glow effect for the finale image
+        finaleGlow = new DropShadow();
+        finaleGlow.setColor(Color.RED);
+        finaleGlow.setWidth(20);
+        finaleGlow.setHeight(20);
+        finaleGlow.setRadius(10);
+
+        nameLabel = new Label();
+        difficultyLabel = new Label();
+        typeLabel = new Label();
+        skillsLabel = new Label();
+
+        descriptionLabel = new Label();
+        descriptionLabel.setTextFill(Color.WHITE);
+        descriptionLabel.setWrapText(true);
+        descriptionLabel.setMaxWidth(500);
+
+        getChildren().addAll(titleLabel, obstacleBox);
+    }
+
+    /**
+     * Shows an obstacle. Showing the obstacle already on display does nothing.
+     *
+     * @param obstacle the obstacle to show
+     */
+    public void setObstacle(ObstacleCard obstacle) {
+        if (obstacle == this.obstacle) {
+            return;
+        }
+        this.obstacle = obstacle;
+        gauges.setObstacle(obstacle);
+
+        boolean isFinale = obstacle.isFinale();
+        if (finale == null || finale != isFinale) {
+            finale = isFinale;
+            applyFinaleStyle(isFinale);
+        }
+
+        // Obstacle image, or a placeholder if it can't be loaded
+        double scale = isFinale ? FINALE_IMAGE_SCALE : IMAGE_SCALE;
+        Image image = imageCache.get(obstacle.getImagePath(), cardWidth * scale, cardHeight * scale);
+        imageView.setImage(image);
+        setShown(imageView, image != null);
+        setShown(placeholder, image == null);
+        if (image == null) {
+            System.err.println("Error loading obstacle image: Image not found: " + obstacle.getImagePath());
+        }
+
+        // Obstacle details
+        nameLabel.setText(obstacle.getName());
+        difficultyLabel.setText("Difficulty: " + obstacle.getDifficulty());
+        typeLabel.setText("Type: " + obstacle.getType());
+        typeLabel.setTextFill(getTypeColor(obstacle.getObstacleType()));
+        if (isFinale) {
+            skillsLabel.setText("This challenge requires different obstacle types to be resolved:");
+        } else {
+            skillsLabel.setText("Required Skills: " + String.join(", ", obstacle.getRequiredSkills()));
+        }
+        descriptionLabel.setText(obstacle.getDescription());
+    }
+
+    /**
+     * Switches the fonts, colors and layout between a regular obstacle and the finale.
+     */
+    private void applyFinaleStyle(boolean isFinale) {
+        titleLabel.setText(isFinale ? "FINAL OBSTACLE" : "Current Obstacle");
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, isFinale ? 24 : 20));
+        titleLabel.setTextFill(isFinale ? Color.RED : Color.WHITE);
+
+        // Use special styling for finale
+        obstacleBox.pseudoClassStateChanged(Theme.FINALE, isFinale);
+
+        // Make finale image larger
+        double scale = isFinale ? FINALE_IMAGE_SCALE : IMAGE_SCALE;
+        imageView.setFitWidth(cardWidth * scale);
+        imageView.setFitHeight(cardHeight * scale);
+        imageView.setEffect(isFinale ? finaleGlow : null);
+
+        placeholder.setWidth(cardWidth * scale);
+        placeholder.setHeight(cardHeight * scale);
+        placeholder.setFill(isFinale ? Color.RED.deriveColor(0, 1, 1, 0.3) : Color.GRAY.deriveColor(0, 1, 1, 0.3));
+        placeholder.setStroke(isFinale ? Color.RED : Color.WHITE);
+
+        nameLabel.setFont(Font.font("System", FontWeight.BOLD, isFinale ? 20 : 16));
+        nameLabel.setTextFill(isFinale ? Color.RED : Color.WHITE);
+        difficultyLabel.setFont(Font.font("System", isFinale ? 16 : 14));
+        difficultyLabel.setTextFill(isFinale ? Color.ORANGE : Color.WHITE);
+        typeLabel.setFont(Font.font("System", isFinale ? 16 : 14));
+        skillsLabel.setFont(Font.font("System", isFinale ? 16 : 14));
+        skillsLabel.setTextFill(isFinale ? Color.LIGHTYELLOW : Color.WHITE);
+        descriptionLabel.setFont(Font.font("System", isFinale ? 16 : 14));
+
+        // The finale shows its requirements above the description, regular obstacles below it
+        if (isFinale) {
+            obstacleBox.getChildren().setAll(imageView, placeholder, nameLabel, difficultyLabel, typeLabel,
+                skillsLabel, gauges, descriptionLabel);
+        } else {
+            obstacleBox.getChildren().setAll(imageView, placeholder, nameLabel, difficultyLabel, typeLabel,
+                skillsLabel, descriptionLabel, gauges);
+        }
+    }
+
+    private static Color getTypeColor(ObstacleType type) {
+        if (type == null) {
+            return Color.WHITE;
+        }
+        switch (type) {
+            case BARRIER:
+                return Color.ORANGE;
+            case HAZARD:
+                return Color.RED;
+            case ENVIRONMENT:
+                return Color.LIGHTBLUE;
+            case PERSONNEL:
+                return Color.LIGHTGREEN;
+            case FINALE:
+                return Color.RED;
+            default:
+                return Color.WHITE;
+        }
+    }
+
+    private static void setShown(Node node, boolean shown) {
+        node.setVisible(shown);
+        node.setManaged(shown);
+    }
+}
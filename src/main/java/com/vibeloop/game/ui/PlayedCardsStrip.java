@@ -0,0 +1,196 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * Shows the card each player has played this round, with a slot per player so the
+ * layout does not shift as cards are played. A slot only rebuilds its content when
+ * the player's card changes.
+ */
+public class PlayedCardsStrip extends VBox {
+    private static final double CARD_SCALE = 1.5;
+
+    private final ImageCache imageCache;
+    private final StatBadges statBadges;
+    private final Function<Card, Tooltip> tooltipFactory;
+    private final double cardWidth;
+    private final double cardHeight;
+    private final List<Player> players;
+    private final Slot[] slots;
+
+    /**
+     * Creates the played cards strip.
+     *
+     * @param players the players, in seat order
+     * @param imageCache the cache for the card art
+     * @param statBadges the shared stat badge images
+     * @param tooltipFactory creates the tooltip of a card
+     * @param cardWidth the width of a card in a hand; played cards are shown larger
+     * @param cardHeight the height of a card in a hand; played cards are shown larger
+     * @param spacing the spacing between the slots
+     */
+    public PlayedCardsStrip(List<Player> players, ImageCache imageCache, StatBadges statBadges,
+                            Function<Card, Tooltip> tooltipFactory, double cardWidth, double cardHeight, double spacing) {
+        super(5);
+        setAlignment(Pos.CENTER);
+        this.players = players;
+        this.imageCache = imageCache;
+        this.statBadges = statBadges;
+        this.tooltipFactory = tooltipFactory;
+        this.cardWidth = cardWidth * CARD_SCALE;
+        this.cardHeight = cardHeight * CARD_SCALE;
+
+        Label playedCardsLabel = new Label("Played Cards");
+        playedCardsLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        playedCardsLabel.setTextFill(Color.WHITE);
+
+        FlowPane slotPane = new FlowPane();
+        slotPane.setHgap(spacing);
+        slotPane.setVgap(spacing);
+        slotPane.setAlignment(Pos.CENTER);
+
+        slots = new Slot[players.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(players.get(i));
+            slotPane.getChildren().add(slots[i]);
+        }
+
+        getChildren().addAll(playedCardsLabel, slotPane);
+    }
+
+    /**
+     * Updates the slots to the cards played this round.
+     *
+     * @param playedCards the card each player played; a player mapped to null skipped
+     * @param currentPlayerIndex the seat of the player whose turn it is
+     */
+    public void update(Map<Player, Card> playedCards, int currentPlayerIndex) {
+        for (int i = 0; i < slots.length; i++) {
+            Player player = players.get(i);
+            slots[i].update(playedCards.containsKey(player), playedCards.get(player), i == currentPlayerIndex);
+        }
+    }
+
+    /**
+     * The slot of one player: the played card, or a placeholder, above the player's name.
+     */
+    private class Slot extends VBox {
+        private Node waitingNode;
+        private Node skippedNode;
+        private boolean played;
+        private Card card;
+
+        Slot(Player player) {
+            super(2);
+            getStyleClass().add("played-slot");
+            setAlignment(Pos.CENTER);
+
+            // Player name, with an indicator shown by the theme when it is the player's turn
+            Label playerLabel = new Label(player.getName());
+            playerLabel.setTextFill(Color.WHITE);
+
+            Rectangle turnIndicator = new Rectangle(10, 10);
+            turnIndicator.getStyleClass().add("turn-indicator");
+            turnIndicator.setTranslateX(-5);
+
+            StackPane nameWithIndicator = new StackPane();
+            nameWithIndicator.setAlignment(Pos.CENTER_LEFT);
+            nameWithIndicator.getChildren().addAll(turnIndicator, playerLabel);
+
+            getChildren().addAll(getWaitingNode(), nameWithIndicator);
+        }
+
+        void update(boolean played, Card card, boolean current) {
+            pseudoClassStateChanged(Theme.ACTIVE_TURN, current);
+
+            if (played == this.played && card == this.card) {
+                return;
+            }
+            this.played = played;
+            this.card = card;
+
+            Node content;
+            if (!played) {
+                content = getWaitingNode();
+            } else if (card == null) {
+                content = getSkippedNode();
+            } else {
+                content = createCardNode(card);
+            }
+            getChildren().set(0, content);
+        }
+
+        private Node getWaitingNode() {
+            if (waitingNode == null) {
+                Rectangle placeholderRect = new Rectangle(cardWidth, cardHeight);
+                placeholderRect.setFill(Color.GRAY.deriveColor(0, 1, 1, 0.2));
+                placeholderRect.setStroke(Color.WHITE);
+                placeholderRect.setStrokeWidth(0.5);
+
+                Text waitingText = new Text("Waiting...");
+                waitingText.setFill(Color.WHITE);
+                waitingText.setFont(Font.font("System", FontWeight.NORMAL, 12));
+
+                waitingNode = new StackPane(placeholderRect, waitingText);
+            }
+            return waitingNode;
+        }
+
+        private Node getSkippedNode() {
+            if (skippedNode == null) {
+                Rectangle skipRect = new Rectangle(cardWidth, cardHeight);
+                skipRect.setFill(Color.GRAY.deriveColor(0, 1, 1, 0.2));
+                skipRect.setStroke(Color.WHITE);
+
+                Text skipText = new Text("SKIPPED");
+                skipText.setFill(Color.WHITE);
+                skipText.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+                skippedNode = new StackPane(skipRect, skipText);
+            }
+            return skippedNode;
+        }
+    }
+
+    private Node createCardNode(Card card) {
+        StackPane cardPane = new StackPane();
+        cardPane.setAlignment(Pos.BOTTOM_RIGHT);
+
+        // Stat indicator, larger for better visibility
+        ImageView indicator = statBadges.createBadge(card.getStatType(), StatBadges.LARGE);
+
+        Image image = card.getImagePath() != null ? imageCache.get(card.getImagePath(), cardWidth, cardHeight) : null;
+        if (image != null) {
+            ImageView cardImage = new ImageView(image);
+            cardImage.setFitWidth(cardWidth);
+            cardImage.setFitHeight(cardHeight);
+            Tooltip.install(cardPane, tooltipFactory.apply(card));
+            cardPane.getChildren().addAll(cardImage, indicator);
+        } else {
+            Rectangle placeholder = new Rectangle(cardWidth, cardHeight);
+            placeholder.setFill(Color.GRAY.deriveColor(0, 1, 1, 0.3));
+            placeholder.setStroke(Color.WHITE);
+            cardPane.getChildren().addAll(placeholder, indicator);
+        }
+        return cardPane;
+    }
+}
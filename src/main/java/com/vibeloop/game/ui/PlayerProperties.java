@@ -0,0 +1,70 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.Player;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * JavaFX properties mirroring the state of a player, for binding in the UI.
+ *
+ * The player keeps its state in plain fields, so changing it costs no change events.
+ * The screen calls {@link #sync()} on the JavaFX application thread after the game
+ * changed the player, which updates the properties and notifies their listeners only
+ * for values that actually changed. Edits of the name property are written back to
+ * the player.
+ */
+public class PlayerProperties {
+    private final Player player;
+    private final StringProperty name;
+    private final ReadOnlyIntegerWrapper currentHealth;
+
+    /**
+     * Creates the properties of a player, initialized to its current state.
+     *
+     * @param player the player to mirror
+     */
+    public PlayerProperties(Player player) {
+        this.player = player;
+        this.name = new SimpleStringProperty(player.getName());
+        this.currentHealth = new ReadOnlyIntegerWrapper(player.getCurrentHealth());
+        name.addListener((obs, oldName, newName) -> player.setName(newName));
+    }
+
+    /**
+     * Gets the player the properties mirror.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the name of the player; setting it renames the player.
+     *
+     * @return the name property
+     */
+    public StringProperty nameProperty() {
+        return name;
+    }
+
+    /**
+     * Gets the current health of the player, as of the last sync.
+     *
+     * @return the health property
+     */
+    public ReadOnlyIntegerProperty currentHealthProperty() {
+        return currentHealth.getReadOnlyProperty();
+    }
+
+    /**
+     * Copies the current state of the player into the properties.
+     */
+    public void sync() {
+        name.set(player.getName());
+        currentHealth.set(player.getCurrentHealth());
+    }
+}
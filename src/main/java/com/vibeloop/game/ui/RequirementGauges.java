@@ -0,0 +1,140 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.ObstacleCard;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Shows how far the cards played this round go towards overcoming the current obstacle:
+ * a single progress bar for a regular obstacle, and one bar per obstacle type for the finale.
+ */
+public class RequirementGauges extends VBox {
+    // Gauge for regular obstacles
+    private final ProgressBar progressBar;
+    private final Label progressLabel;
+
+    // Gauges for the finale
+    private final VBox requirementsBox;
+    private final Gauge environmentGauge;
+    private final Gauge hazardGauge;
+    private final Gauge barrierGauge;
+
+    private ObstacleCard obstacle;
+    private Boolean finale;
+
+    /**
+     * Creates the requirement gauges.
+     */
+    public RequirementGauges() {
+        super(10);
+        setAlignment(Pos.CENTER);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(300);
+        progressBar.getStyleClass().add("skill-gauge");
+
+        progressLabel = new Label();
+        progressLabel.setFont(Font.font("System", 14));
+        progressLabel.setTextFill(Color.WHITE);
+
+        requirementsBox = new VBox(5);
+        requirementsBox.setAlignment(Pos.CENTER_LEFT);
+        requirementsBox.setPadding(new Insets(10));
+        requirementsBox.getStyleClass().add("requirements-box");
+
+        environmentGauge = new Gauge("Environment", Color.LIGHTBLUE, "environment-gauge");
+        hazardGauge = new Gauge("Hazard", Color.LIGHTSALMON, "hazard-gauge");
+        barrierGauge = new Gauge("Barrier", Color.LIGHTGREEN, "barrier-gauge");
+
+        // Add a note about using any skill type
+        Label compatibilityNote = new Label("Any skill (strength, speed, tech) can be used for any obstacle type!");
+        compatibilityNote.setTextFill(Color.YELLOW);
+        compatibilityNote.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+        requirementsBox.getChildren().addAll(environmentGauge, hazardGauge, barrierGauge, compatibilityNote);
+    }
+
+    /**
+     * Sets the obstacle the gauges measure against. Switching between a regular obstacle
+     * and the finale swaps the gauges; otherwise only the targets change.
+     *
+     * @param obstacle the current obstacle
+     */
+    public void setObstacle(ObstacleCard obstacle) {
+        if (obstacle == this.obstacle) {
+            return;
+        }
+        this.obstacle = obstacle;
+
+        if (finale == null || finale != obstacle.isFinale()) {
+            finale = obstacle.isFinale();
+            if (finale) {
+                getChildren().setAll(requirementsBox);
+            } else {
+                getChildren().setAll(progressBar, progressLabel);
+            }
+        }
+    }
+
+    /**
+     * Shows the progress against a regular obstacle.
+     *
+     * @param totalSkill the skill total of the cards played so far
+     */
+    public void setProgress(int totalSkill) {
+        int difficulty = obstacle.getDifficulty();
+        progressBar.setProgress(Math.min(1.0, (double) totalSkill / difficulty));
+        progressLabel.setText("Progress: " + totalSkill + " / " + difficulty);
+    }
+
+    /**
+     * Shows the progress against the finale.
+     *
+     * @param environment the environment total of the cards played so far
+     * @param hazard the hazard total of the cards played so far
+     * @param barrier the barrier total of the cards played so far
+     */
+    public void setFinaleProgress(int environment, int hazard, int barrier) {
+        environmentGauge.update(environment, obstacle.getEnvironmentRequired());
+        hazardGauge.update(hazard, obstacle.getHazardRequired());
+        barrierGauge.update(barrier, obstacle.getBarrierRequired());
+    }
+
+    /**
+     * A labelled progress bar for one obstacle type of the finale.
+     */
+    private static class Gauge extends HBox {
+        private final String name;
+        private final Label label;
+        private final ProgressBar bar;
+
+        Gauge(String name, Color textColor, String barStyleClass) {
+            super(10);
+            this.name = name;
+
+            label = new Label();
+            label.setTextFill(textColor);
+            label.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+            bar = new ProgressBar(0);
+            bar.setPrefWidth(300);
+            bar.getStyleClass().add(barStyleClass);
+
+            getChildren().addAll(label, bar);
+        }
+
+        void update(int current, int required) {
+            // Properties ignore values equal to their current one, so unchanged gauges cost no layout
+            label.setText(name + ": " + current + "/" + required);
+            bar.setProgress(Math.min(1.0, (double) current / required));
+        }
+    }
+}
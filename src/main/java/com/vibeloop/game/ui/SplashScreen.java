@@ -0,0 +1,39 @@
+package com.vibeloop.game.ui;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+/**
+ * Shows the progress of a background task while the game starts.
+ */
+public class SplashScreen extends VBox {
+
+    /**
+     * Creates a splash screen following a task.
+     *
+     * @param task the task whose progress and message to show
+     */
+    public SplashScreen(Task<?> task) {
+        super(20);
+        setAlignment(Pos.CENTER);
+        getStyleClass().add("splash-screen");
+
+        Label titleLabel = new Label("VibeLoop");
+        titleLabel.getStyleClass().add("welcome-label");
+        titleLabel.setTextFill(Color.WHITE);
+
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(400);
+        progressBar.progressProperty().bind(task.progressProperty());
+
+        Label messageLabel = new Label();
+        messageLabel.setTextFill(Color.LIGHTGRAY);
+        messageLabel.textProperty().bind(task.messageProperty());
+
+        getChildren().addAll(titleLabel, progressBar, messageLabel);
+    }
+}
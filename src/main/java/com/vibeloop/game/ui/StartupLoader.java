@@ -0,0 +1,89 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.service.ContentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.concurrent.Task;
+
+/**
+ * Loads the game content and warms the image cache before the welcome screen is shown.
+ *
+ * The content files are parsed in parallel, then the art every game starts with is
+ * decoded in parallel at the sizes the screens show it: the background, the character
+ * portraits, the card back and the obstacles, of which the first obstacle deck is drawn.
+ * The loader reports its progress and message for a splash screen.
+ */
+public class StartupLoader extends Task<ContentRepository> {
+    private static final String BACKGROUND_PATH = "/station.jpg";
+    private static final String CARD_BACK_PATH = "/cards/card_back.jpg";
+
+    private final ImageCache imageCache;
+    private final Executor executor;
+
+    /**
+     * Creates the startup loader.
+     *
+     * @param imageCache the image cache to warm
+     * @param executor the executor to parse files and decode images on; the loader itself
+     *                 must run on another thread, as it waits for those tasks
+     */
+    public StartupLoader(ImageCache imageCache, Executor executor) {
+        this.imageCache = imageCache;
+        this.executor = executor;
+    }
+
+    @Override
+    protected ContentRepository call() {
+        long start = System.nanoTime();
+        updateMessage("Loading content...");
+        ContentRepository content = ContentRepository.loadAsync(executor).join();
+
+        List<Runnable> preloads = getPreloads(content);
+        int total = preloads.size() + 1;
+        AtomicInteger done = new AtomicInteger(1);
+        updateProgress(1, total);
+        updateMessage("Loading images...");
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Runnable preload : preloads) {
+            futures.add(CompletableFuture.runAsync(preload, executor)
+                .thenRun(() -> updateProgress(done.incrementAndGet(), total)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        System.out.println("Startup finished in " + (System.nanoTime() - start) / 1_000_000 + " ms, " +
+                           preloads.size() + " images preloaded: " + imageCache);
+        return content;
+    }
+
+    /**
+     * Lists the images to decode, at the sizes the screens request them.
+     */
+    private List<Runnable> getPreloads(ContentRepository content) {
+        List<Runnable> preloads = new ArrayList<>();
+        preloads.add(() -> imageCache.get(BACKGROUND_PATH, 0, 0));
+        preloads.add(() -> imageCache.get(CARD_BACK_PATH, GameScreen.CARD_WIDTH, GameScreen.CARD_HEIGHT));
+
+        for (int i = 0; i < content.getCharacterService().getCharacterCount(); i++) {
+            Character character = content.getCharacterService().getCharacter(i);
+            String path = character.getImagePath();
+            preloads.add(() -> imageCache.get(path, CharacterSelectionPanel.PORTRAIT_SIZE,
+                                              CharacterSelectionPanel.PORTRAIT_SIZE, true));
+            preloads.add(() -> imageCache.get(path, GameScreen.PROFILE_WIDTH, GameScreen.PROFILE_WIDTH, true));
+        }
+
+        for (int i = 0; i < content.getObstacleService().getObstacleCount(); i++) {
+            ObstacleCard obstacle = content.getObstacleService().getObstacleCard(i);
+            double scale = obstacle.isFinale() ? ObstacleView.FINALE_IMAGE_SCALE : ObstacleView.IMAGE_SCALE;
+            preloads.add(() -> imageCache.get(obstacle.getImagePath(), GameScreen.CARD_WIDTH * scale,
+                                              GameScreen.CARD_HEIGHT * scale));
+        }
+        return preloads;
+    }
+}
@@ -0,0 +1,122 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.Stat;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.geometry.Pos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+
+/**
+ * The stat badges shown in the corner of cards.
+ *
+ * Each badge is rendered once per stat and size into an image that all cards showing
+ * it share, so a card only adds an image view to the scene instead of a stroked circle
+ * and a text node. Badges must be requested on the JavaFX application thread.
+ */
+public class StatBadges {
+    /** The badge size of cards in a hand. */
+    public static final Size SMALL = new Size(10, 1, 9);
+    /** The badge size of played cards. */
+    public static final Size LARGE = new Size(15, 1.5, 12);
+
+    private final Map<String, Image> badges = new HashMap<>();
+
+    /**
+     * Creates an image view showing the badge of a stat.
+     *
+     * @param stat the stat, or null for strength
+     * @param size the size of the badge
+     * @return a new image view of the shared badge image
+     */
+    public ImageView createBadge(Stat stat, Size size) {
+        Image image = getImage(stat, size);
+        ImageView badge = new ImageView(image);
+        double diameter = 2 * (size.radius + size.strokeWidth / 2);
+        badge.setFitWidth(diameter);
+        badge.setFitHeight(diameter);
+        return badge;
+    }
+
+    /**
+     * Gets the badge image of a stat, rendering it the first time it is requested.
+     *
+     * @param stat the stat, or null for strength
+     * @param size the size of the badge
+     * @return the shared badge image
+     */
+    public Image getImage(Stat stat, Size size) {
+        Stat badgeStat = stat != null ? stat : Stat.STRENGTH;
+        return badges.computeIfAbsent(badgeStat + "@" + size.radius, key -> render(badgeStat, size));
+    }
+
+    /**
+     * Gets the color of a stat.
+     *
+     * @param stat the stat, or null for strength
+     * @return the color cards and tooltips use for the stat
+     */
+    public static Color getColor(Stat stat) {
+        if (stat == Stat.SPEED) {
+            return Color.rgb(100, 180, 220);
+        } else if (stat == Stat.TECH) {
+            return Color.rgb(100, 220, 100);
+        }
+        return Color.rgb(220, 100, 100);
+    }
+
+    private static String getLetter(Stat stat) {
+        if (stat == Stat.SPEED) {
+            return "SP";
+        } else if (stat == Stat.TECH) {
+            return "T";
+        }
+        return "S";
+    }
+
+    private static Image render(Stat stat, Size size) {
+        Circle background = new Circle(size.radius);
+        background.setFill(getColor(stat));
+        background.setStroke(Color.WHITE);
+        background.setStrokeWidth(size.strokeWidth);
+
+        Text letter = new Text(getLetter(stat));
+        letter.setFill(Color.WHITE);
+        letter.setFont(Font.font("System", FontWeight.BOLD, size.fontSize));
+
+        StackPane badge = new StackPane(background, letter);
+        badge.setAlignment(Pos.CENTER);
+
+        // Render at the screen's output scale so the badge stays sharp on high density displays
+        double scale = Screen.getPrimary().getOutputScaleX();
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+        return badge.snapshot(parameters, null);
+    }
+
+    /**
+     * The dimensions of a badge.
+     */
+    public static final class Size {
+        private final double radius;
+        private final double strokeWidth;
+        private final double fontSize;
+
+        private Size(double radius, double strokeWidth, double fontSize) {
+            this.radius = radius;
+            this.strokeWidth = strokeWidth;
+            this.fontSize = fontSize;
+        }
+    }
+}
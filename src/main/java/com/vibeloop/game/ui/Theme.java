@@ -0,0 +1,57 @@
+package com.vibeloop.game.ui;
+
+import java.net.URL;
+import java.nio.file.Paths;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+
+/**
+ * The stylesheet and pseudo-classes of the game's look.
+ *
+ * Nodes get style classes from the theme stylesheet instead of inline styles, and state
+ * changes only toggle pseudo-classes, so JavaFX parses the CSS once and reuses the matched
+ * selectors. The {@code vibeloop.theme} system property selects another stylesheet file.
+ */
+public final class Theme {
+    private static final String DEFAULT_STYLESHEET = "/styles/vibeloop.css";
+
+    /** A card in a hand that counts against the current obstacle. */
+    public static final PseudoClass COMPATIBLE = PseudoClass.getPseudoClass("compatible");
+    /** A card in a hand that does not count against the current obstacle. */
+    public static final PseudoClass INCOMPATIBLE = PseudoClass.getPseudoClass("incompatible");
+    /** A card that can be played now. */
+    public static final PseudoClass PLAYABLE = PseudoClass.getPseudoClass("playable");
+    /** The row or slot of the player whose turn it is. */
+    public static final PseudoClass ACTIVE_TURN = PseudoClass.getPseudoClass("active-turn");
+    /** The obstacle box while the finale is in play. */
+    public static final PseudoClass FINALE = PseudoClass.getPseudoClass("finale");
+
+    private Theme() {
+    }
+
+    /**
+     * Adds the theme stylesheet to a scene.
+     *
+     * @param scene the scene to style
+     */
+    public static void apply(Scene scene) {
+        scene.getStylesheets().add(getStylesheet());
+    }
+
+    /**
+     * Gets the URL of the theme stylesheet.
+     *
+     * @return the stylesheet URL
+     */
+    public static String getStylesheet() {
+        String override = System.getProperty("vibeloop.theme");
+        if (override != null) {
+            return Paths.get(override).toUri().toString();
+        }
+        URL url = Theme.class.getResource(DEFAULT_STYLESHEET);
+        if (url == null) {
+            throw new IllegalStateException("Theme stylesheet not found: " + DEFAULT_STYLESHEET);
+        }
+        return url.toExternalForm();
+    }
+}
@@ -0,0 +1,161 @@
+package com.vibeloop.game.ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * On-disk store of pre-scaled thumbnails.
+ *
+ * The first time an image is needed at a given size it is decoded from the full JPEG and
+ * its pixels are written to the store; later runs read the small pixel file instead of
+ * decoding the JPEG again. Thumbnails are keyed by a hash of the image content and the
+ * size, so replacing an image never shows a stale thumbnail. Any problem with the store
+ * falls back to decoding the image directly.
+ */
+public class ThumbnailStore {
+    // Marks a thumbnail file and its format version
+    private static final int MAGIC = 0x564C5431; // "VLT1"
+
+    private final Path directory;
+
+    /**
+     * Creates a thumbnail store.
+     *
+     * @param directory the directory holding the thumbnails; it is created when needed
+     */
+    public ThumbnailStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the default thumbnail directory in the user's home directory. The
+     * {@code vibeloop.thumbnailDir} system property overrides it.
+     *
+     * @return the default thumbnail directory
+     */
+    public static Path getDefaultDirectory() {
+        String override = System.getProperty("vibeloop.thumbnailDir");
+        if (override != null) {
+            return Paths.get(override);
+        }
+        return Paths.get(System.getProperty("user.home"), ".vibeloop", "thumbnails");
+    }
+
+    /**
+     * Loads a resource image at the given size, from the store when possible.
+     *
+     * @param path the resource path of the image
+     * @param width the width to decode at
+     * @param height the height to decode at
+     * @param preserveRatio whether to fit the image within the size keeping its aspect ratio
+     * @return the image, or null if the resource does not exist or cannot be decoded
+     */
+    public Image load(String path, double width, double height, boolean preserveRatio) {
+        byte[] content;
+        try (InputStream is = getClass().getResourceAsStream(path)) {
+            if (is == null) {
+                return null;
+            }
+            content = is.readAllBytes();
+        } catch (IOException e) {
+            System.err.println("Error loading image " + path + ": " + e.getMessage());
+            return null;
+        }
+
+        Path file = directory.resolve(hash(content) + "-" + (int) width + "x" + (int) height +
+            (preserveRatio ? "r" : "") + ".argb.gz");
+        if (Files.isRegularFile(file)) {
+            try {
+                return read(file);
+            } catch (IOException e) {
+                System.err.println("Error reading thumbnail " + file + ": " + e.getMessage());
+            }
+        }
+
+        Image image = new Image(new ByteArrayInputStream(content), width, height, preserveRatio, true);
+        if (image.isError()) {
+            System.err.println("Error decoding image " + path + ": " + image.getException());
+            return null;
+        }
+
+        try {
+            write(file, image);
+        } catch (IOException e) {
+            System.err.println("Error writing thumbnail " + file + ": " + e.getMessage());
+        }
+        return image;
+    }
+
+    private static Image read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a thumbnail file");
+            }
+            int width = in.readInt();
+            int height = in.readInt();
+            int[] pixels = new int[width * height];
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = in.readInt();
+            }
+
+            WritableImage image = new WritableImage(width, height);
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                pixels, 0, width);
+            return image;
+        }
+    }
+
+    private void write(Path file, Image image) throws IOException {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] pixels = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+            pixels, 0, width);
+
+        // Write to a temporary file first so a concurrent reader never sees a partial file
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "thumbnail", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(width);
+                out.writeInt(height);
+                for (int pixel : pixels) {
+                    out.writeInt(pixel);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
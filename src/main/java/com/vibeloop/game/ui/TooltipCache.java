@@ -0,0 +1,193 @@
+package com.vibeloop.game.ui;
+
+import com.vibeloop.game.model.Card;
+import com.vibeloop.game.model.Character;
+import com.vibeloop.game.model.ObstacleCard;
+import com.vibeloop.game.model.ObstacleResult;
+import com.vibeloop.game.model.Stat;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.util.Duration;
+
+/**
+ * Shared tooltips for cards, characters and obstacles.
+ *
+ * There is one tooltip per card, character or obstacle definition, installed on every
+ * node that shows it. The tooltip content is only built the first time the tooltip is
+ * shown, so the many nodes that are never hovered cost no more than a map lookup.
+ */
+public class TooltipCache {
+    private final Map<Card, Tooltip> cardTooltips = new IdentityHashMap<>();
+    private final Map<Character, Tooltip> characterTooltips = new IdentityHashMap<>();
+    private final Map<String, Tooltip> obstacleTooltips = new HashMap<>();
+
+    /**
+     * Gets the tooltip for a card with all its details.
+     *
+     * @param card the card
+     * @return the shared tooltip of the card
+     */
+    public Tooltip getCardTooltip(Card card) {
+        return cardTooltips.computeIfAbsent(card, c -> createTooltip(() -> createCardContent(c), 280));
+    }
+
+    /**
+     * Gets the tooltip for a character with all its stats.
+     *
+     * @param character the character
+     * @return the shared tooltip of the character
+     */
+    public Tooltip getCharacterTooltip(Character character) {
+        return characterTooltips.computeIfAbsent(character, c -> createTooltip(() -> createCharacterContent(c), 230));
+    }
+
+    /**
+     * Gets the tooltip for a completed obstacle. The tooltip does not show the time loop,
+     * so there are at most two per obstacle however long the session is.
+     *
+     * @param result the result of the obstacle
+     * @return the tooltip shared by all results with the same obstacle and outcome
+     */
+    public Tooltip getObstacleTooltip(ObstacleResult result) {
+        String key = result.getObstacle().getId() + (result.isSucceeded() ? "+" : "-");
+        return obstacleTooltips.computeIfAbsent(key, k -> createTooltip(() -> createObstacleContent(result), 250));
+    }
+
+    /**
+     * Creates a tooltip whose content is built when it is first shown.
+     */
+    private static Tooltip createTooltip(Supplier<Node> content, double maxWidth) {
+        Tooltip tooltip = new Tooltip();
+        tooltip.setShowDelay(Duration.millis(50));
+        tooltip.setMaxWidth(maxWidth);
+        tooltip.setOnShowing(event -> {
+            if (tooltip.getGraphic() == null) {
+                tooltip.setGraphic(content.get());
+            }
+        });
+        return tooltip;
+    }
+
+    private static VBox createContentBox() {
+        VBox content = new VBox(3);
+        content.setPadding(new Insets(5));
+        content.getStyleClass().add("tooltip-content");
+        return content;
+    }
+
+    private static Node createCardContent(Card card) {
+        VBox content = createContentBox();
+
+        Text nameText = new Text(card.getName());
+        nameText.setFill(Color.WHITE);
+        nameText.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+        // Default to strength for any other stat
+        Stat cardStat = card.getStatType() != null ? card.getStatType() : Stat.STRENGTH;
+        String associatedStat = cardStat.getDisplayName();
+        Color statColor = StatBadges.getColor(cardStat);
+
+        Text typeText = new Text("Stat: " + card.getStat() + " (Uses " + associatedStat + ")");
+        typeText.setFill(statColor);
+        typeText.setFont(Font.font("System", FontWeight.BOLD, 12));
+
+        Text descriptionText = new Text("Description: " + card.getDescription());
+        descriptionText.setFill(Color.WHITE);
+        descriptionText.setFont(Font.font("System", 12));
+        descriptionText.setWrappingWidth(250);
+
+        // Add compatibility information
+        String[] compatibleTypes = card.getCompatibleTypes();
+        String compatibilityText = "Compatible with: ";
+        if (compatibleTypes != null && compatibleTypes.length > 0) {
+            compatibilityText += String.join(", ", compatibleTypes);
+        } else {
+            compatibilityText += "None";
+        }
+
+        Text compatibilityLabel = new Text(compatibilityText);
+        compatibilityLabel.setFill(Color.YELLOW);
+        compatibilityLabel.setFont(Font.font("System", 12));
+        compatibilityLabel.setWrappingWidth(250);
+
+        content.getChildren().addAll(nameText, typeText, descriptionText, compatibilityLabel);
+        return content;
+    }
+
+    private static Node createCharacterContent(Character character) {
+        VBox content = createContentBox();
+
+        Text nameText = new Text(character.getName());
+        nameText.setFill(Color.WHITE);
+        nameText.setFont(Font.font("System", FontWeight.BOLD, 14));
+
+        Text typeText = new Text("Type: " + character.getType());
+        typeText.setFill(Color.WHITE);
+        typeText.setFont(Font.font("System", 12));
+
+        Text strengthText = new Text("Strength: " + character.getStrength());
+        strengthText.setFill(Color.WHITE);
+        strengthText.setFont(Font.font("System", 12));
+
+        Text speedText = new Text("Speed: " + character.getSpeed());
+        speedText.setFill(Color.WHITE);
+        speedText.setFont(Font.font("System", 12));
+
+        Text techText = new Text("Tech: " + character.getTech());
+        techText.setFill(Color.WHITE);
+        techText.setFont(Font.font("System", 12));
+
+        Text healthText = new Text("Health: " + character.getHealth());
+        healthText.setFill(Color.WHITE);
+        healthText.setFont(Font.font("System", 12));
+
+        Text descriptionText = new Text("Description: " + character.getDescription());
+        descriptionText.setFill(Color.WHITE);
+        descriptionText.setFont(Font.font("System", 12));
+        descriptionText.setWrappingWidth(200);
+
+        content.getChildren().addAll(nameText, typeText, strengthText, speedText, techText, healthText, descriptionText);
+        return content;
+    }
+
+    private static Node createObstacleContent(ObstacleResult result) {
+        ObstacleCard obstacle = result.getObstacle();
+        boolean succeeded = result.isSucceeded();
+        VBox content = createContentBox();
+
+        Text nameText = new Text(obstacle.getName());
+        nameText.setFill(Color.WHITE);
+        nameText.setFont(Font.font("System", FontWeight.BOLD, 14));
+        content.getChildren().add(nameText);
+
+        Text typeText = new Text("Type: " + obstacle.getType());
+        typeText.setFill(Color.LIGHTBLUE);
+        typeText.setFont(Font.font("System", 12));
+
+        Text difficultyText = new Text("Difficulty: " + obstacle.getDifficulty());
+        difficultyText.setFill(Color.WHITE);
+        difficultyText.setFont(Font.font("System", 12));
+
+        Text skillsText = new Text("Required Skills: " + String.join(", ", obstacle.getRequiredSkills()));
+        skillsText.setFill(Color.WHITE);
+        skillsText.setFont(Font.font("System", 12));
+
+        Text resultText = new Text("Result: " + (succeeded ? "SUCCEEDED" : "FAILED"));
+        resultText.setFill(succeeded ? Color.LIGHTGREEN : Color.LIGHTPINK);
+        resultText.setFont(Font.font("System", FontWeight.BOLD, 12));
+
+        content.getChildren().addAll(typeText, difficultyText, skillsText, resultText);
+        return content;
+    }
+}